@@ -0,0 +1,46 @@
+package io.github.nivaldosilva.cadastro_usuarios.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class BCryptBenchmark {
+
+    private static final String SENHA = "senha-benchmark-123";
+
+    @Param({"10", "11", "12", "13"})
+    private int forca;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(forca);
+        hash = encoder.encode(SENHA);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(SENHA);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(SENHA, hash);
+    }
+}
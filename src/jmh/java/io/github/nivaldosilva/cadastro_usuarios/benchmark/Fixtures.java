@@ -0,0 +1,122 @@
+package io.github.nivaldosilva.cadastro_usuarios.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.EnderecoRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.TelefoneRequest;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Telefone;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.security.JwtChaves;
+import io.github.nivaldosilva.cadastro_usuarios.security.JwtTokenService;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class Fixtures {
+
+    static JwtChaves chaves(String algoritmo) {
+        try {
+            return switch (algoritmo) {
+                case "RS256" -> {
+                    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                    generator.initialize(2048);
+                    KeyPair par = generator.generateKeyPair();
+                    yield JwtChaves.dePem((RSAPublicKey) par.getPublic(), (RSAPrivateKey) par.getPrivate(),
+                            "rsa-bench", algoritmo);
+                }
+                case "ES256" -> deJwk(new ECKeyGenerator(Curve.P_256).keyID("ec-bench").generate(), algoritmo);
+                case "EdDSA" -> deJwk(new OctetKeyPairGenerator(Curve.Ed25519).keyID("ed-bench").generate(), algoritmo);
+                default -> throw new IllegalArgumentException("Algoritmo não suportado: " + algoritmo);
+            };
+        } catch (NoSuchAlgorithmException | JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static JwtTokenService tokenService(JwtChaves chaves) {
+        JwtTokenService service = new JwtTokenService(chaves.encoder(), chaves);
+        ReflectionTestUtils.setField(service, "jwtExpirationSeconds", 3600L);
+        ReflectionTestUtils.setField(service, "jwtRefreshExpirationDays", 1L);
+        ReflectionTestUtils.setField(service, "jwtIssuer", "api://cadastro-usuarios");
+        return service;
+    }
+
+    static Authentication autenticacao(Usuario usuario) {
+        return UsernamePasswordAuthenticationToken.authenticated(usuario, null, usuario.getAuthorities());
+    }
+
+    static Usuario usuario(int enderecos, int telefones) {
+        Usuario usuario = Usuario.builder()
+                .id(UUID.randomUUID())
+                .nome("Usuário Benchmark")
+                .email("benchmark@exemplo.com")
+                .senha("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3GqvE2dJkS3Nv1dJQ5e3t7K")
+                .roles(Set.of(Role.USUARIO, Role.ADMIN))
+                .ativo(true)
+                .contaBloqueada(false)
+                .credenciaisExpiradas(false)
+                .build();
+
+        List<Endereco> listaEnderecos = new ArrayList<>(enderecos);
+        for (int i = 0; i < enderecos; i++) {
+            listaEnderecos.add(Endereco.builder()
+                    .id(UUID.randomUUID())
+                    .rua("Rua " + i)
+                    .numero(String.valueOf(i % 1000))
+                    .complemento("Apto " + i)
+                    .cidade("São Paulo")
+                    .estado("SP")
+                    .cep("01001-000")
+                    .usuario(usuario)
+                    .build());
+        }
+        List<Telefone> listaTelefones = new ArrayList<>(telefones);
+        for (int i = 0; i < telefones; i++) {
+            listaTelefones.add(Telefone.builder()
+                    .id(UUID.randomUUID())
+                    .ddd("11")
+                    .numero(String.valueOf(900000000 + i))
+                    .usuario(usuario)
+                    .build());
+        }
+        usuario.setEnderecos(listaEnderecos);
+        usuario.setTelefones(listaTelefones);
+        return usuario;
+    }
+
+    static RegistroUsuarioRequest registro(int enderecos, int telefones) {
+        List<EnderecoRequest> listaEnderecos = new ArrayList<>(enderecos);
+        for (int i = 0; i < enderecos; i++) {
+            listaEnderecos.add(new EnderecoRequest("Rua " + i, String.valueOf(i % 1000), "Apto " + i,
+                    "São Paulo", "SP", "01001-000"));
+        }
+        List<TelefoneRequest> listaTelefones = new ArrayList<>(telefones);
+        for (int i = 0; i < telefones; i++) {
+            listaTelefones.add(new TelefoneRequest(String.valueOf(900000000 + i), "11"));
+        }
+        return new RegistroUsuarioRequest("Usuário Benchmark", "benchmark@exemplo.com", "senha123",
+                Set.of(Role.USUARIO), listaEnderecos, listaTelefones);
+    }
+
+    private static JwtChaves deJwk(JWK chave, String algoritmo) {
+        return JwtChaves.deJwkSet(new JWKSet(chave).toString(false), chave.getKeyID(), algoritmo);
+    }
+}
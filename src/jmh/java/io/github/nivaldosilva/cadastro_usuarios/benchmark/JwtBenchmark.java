@@ -0,0 +1,67 @@
+package io.github.nivaldosilva.cadastro_usuarios.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.LoginResponse;
+import io.github.nivaldosilva.cadastro_usuarios.security.CachingJwtDecoder;
+import io.github.nivaldosilva.cadastro_usuarios.security.JwtChaves;
+import io.github.nivaldosilva.cadastro_usuarios.security.JwtTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private String algoritmo;
+
+    private JwtTokenService tokenService;
+    private Authentication autenticacao;
+    private JwtDecoder decoder;
+    private JwtDecoder decoderComCache;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        JwtChaves chaves = Fixtures.chaves(algoritmo);
+        tokenService = Fixtures.tokenService(chaves);
+        autenticacao = Fixtures.autenticacao(Fixtures.usuario(0, 0));
+
+        var validator = JwtValidators.createDefault();
+        decoder = chaves.decoder(validator);
+        decoderComCache = new CachingJwtDecoder(chaves.decoder(validator), validator, 10_000, new SimpleMeterRegistry());
+        accessToken = tokenService.generateAccessToken(autenticacao).getAccessToken();
+    }
+
+    @Benchmark
+    public LoginResponse generateTokens() {
+        return tokenService.generateTokens(autenticacao);
+    }
+
+    @Benchmark
+    public LoginResponse generateAccessToken() {
+        return tokenService.generateAccessToken(autenticacao);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(accessToken);
+    }
+
+    @Benchmark
+    public Jwt decodeComCache() {
+        return decoderComCache.decode(accessToken);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.nivaldosilva.cadastro_usuarios.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.logging.AmostragemTurboFilter;
+
+/**
+ * Custo de log de um login com a configuração de desenvolvimento (console síncrono, níveis de application.yml) e com
+ * o perfil prod (JSON ECS assíncrono, níveis de application-prod.yml, amostragem). As chamadas reproduzem o que um
+ * {@code POST /auth/login} registra na aplicação e nos frameworks. A saída vai para um stream nulo: o resultado mede
+ * o custo na thread da requisição (filtragem, formatação, contenção), não o I/O do terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final Map<String, LogLevel> NIVEIS_ATUAIS = Map.of(
+            "io.github.nivaldosilva", LogLevel.DEBUG,
+            "org.springframework.web", LogLevel.DEBUG,
+            "org.springframework.security", LogLevel.DEBUG,
+            "org.hibernate.SQL", LogLevel.DEBUG,
+            "org.hibernate.orm.jdbc.bind", LogLevel.TRACE);
+
+    private static final Map<String, LogLevel> NIVEIS_PROD = Map.of(
+            "io.github.nivaldosilva", LogLevel.INFO,
+            "org.springframework.web", LogLevel.WARN,
+            "org.springframework.security", LogLevel.WARN,
+            "org.hibernate.SQL", LogLevel.WARN,
+            "org.hibernate.orm.jdbc.bind", LogLevel.WARN);
+
+    private static final String EMAIL = "benchmark@exemplo.com";
+    private static final Set<Role> ROLES = Set.of(Role.USUARIO);
+
+    @Param({"atual", "prod"})
+    private String configuracao;
+
+    private PrintStream saidaOriginal;
+    private LoggingSystem loggingSystem;
+
+    private Logger filterChain;
+    private Logger dispatcher;
+    private Logger sql;
+    private Logger bind;
+    private Logger authenticationService;
+    private Logger userDetailsService;
+    private Logger tokenService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.application.name", "cadastro-usuarios")
+                .withProperty("logging.pattern.console",
+                        "%d{HH:mm:ss} %5p %-30.30logger{25} : %m%n");
+        boolean prod = "prod".equals(configuracao);
+        if (prod) {
+            environment.setActiveProfiles("prod");
+        }
+
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+        (prod ? NIVEIS_PROD : NIVEIS_ATUAIS).forEach(loggingSystem::setLogLevel);
+
+        filterChain = LoggerFactory.getLogger("org.springframework.security.web.FilterChainProxy");
+        dispatcher = LoggerFactory.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        sql = LoggerFactory.getLogger("org.hibernate.SQL");
+        bind = LoggerFactory.getLogger("org.hibernate.orm.jdbc.bind");
+        authenticationService = LoggerFactory.getLogger(
+                "io.github.nivaldosilva.cadastro_usuarios.security.JwtAuthenticationService");
+        userDetailsService = LoggerFactory.getLogger(
+                "io.github.nivaldosilva.cadastro_usuarios.security.JwtUserDetailsService");
+        tokenService = LoggerFactory.getLogger("io.github.nivaldosilva.cadastro_usuarios.security.JwtTokenService");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggingSystem.cleanUp();
+        System.setOut(saidaOriginal);
+    }
+
+    @Benchmark
+    public void login() {
+        filterChain.debug("Securing POST /auth/login");
+        dispatcher.debug("POST \"/auth/login\", parameters={}", "{}");
+        userDetailsService.debug("Carregando usuario por email: {}", EMAIL);
+        sql.debug("select u1_0.id,u1_0.ativo,u1_0.conta_bloqueada,u1_0.credenciais_expiradas,u1_0.data_criacao,"
+                + "u1_0.email,u1_0.nome,u1_0.roles,u1_0.senha from usuarios u1_0 where u1_0.email=?");
+        bind.trace("binding parameter (1:VARCHAR) <- [{}]", EMAIL);
+        userDetailsService.debug("Usuario encontrado: {} com roles: {}", EMAIL, ROLES);
+        authenticationService.info(AmostragemTurboFilter.AMOSTRADO,
+                "Login realizado com sucesso para usuário: {} com roles: {}", EMAIL, ROLES);
+        tokenService.debug("Gerando tokens para usuario: {}", EMAIL);
+        tokenService.debug("Gerando access token para: {} com scopes: {}", EMAIL, "USUARIO");
+        tokenService.debug("Gerando refresh token para: {}", EMAIL);
+        dispatcher.debug("Completed 200 OK");
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.nivaldosilva.cadastro_usuarios.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsuarioMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int filhos;
+
+    private Usuario usuario;
+    private RegistroUsuarioRequest request;
+
+    @Setup
+    public void setup() {
+        usuario = Fixtures.usuario(filhos, filhos);
+        request = Fixtures.registro(filhos, filhos);
+    }
+
+    @Benchmark
+    public Usuario toEntity() {
+        return UsuarioMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public UsuarioResponse toResponse() {
+        return UsuarioMapper.toResponse(usuario);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return usuario.getAuthorities();
+    }
+}
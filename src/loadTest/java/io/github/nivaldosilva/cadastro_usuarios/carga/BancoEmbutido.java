@@ -0,0 +1,43 @@
+package io.github.nivaldosilva.cadastro_usuarios.carga;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.experimental.UtilityClass;
+
+/**
+ * PostgreSQL embutido compartilhado pelas suítes de carga; o schema é criado pelas migrações do Flyway.
+ */
+@UtilityClass
+public class BancoEmbutido {
+
+    private static EmbeddedPostgres instancia;
+
+    public static synchronized EmbeddedPostgres iniciar() {
+        if (instancia == null) {
+            try {
+                instancia = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível iniciar o PostgreSQL embutido", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(BancoEmbutido::parar));
+        }
+        return instancia;
+    }
+
+    public static void registrar(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres postgres = iniciar();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static synchronized void parar() {
+        try {
+            instancia.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
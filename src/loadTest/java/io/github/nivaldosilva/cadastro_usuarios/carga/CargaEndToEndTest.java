@@ -0,0 +1,235 @@
+package io.github.nivaldosilva.cadastro_usuarios.carga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.cadastro_usuarios.carga.MedicaoEndpoint.Resultado;
+import io.github.nivaldosilva.cadastro_usuarios.carga.PerfilCarga.Operacao;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sobe a aplicação contra um PostgreSQL embutido e mede vazão e latência por endpoint em cada perfil de carga.
+ * Parâmetros (system properties): carga.concorrencia, carga.duracao, carga.aquecimento, carga.usuarios,
+ * carga.threads-virtuais e carga.resultados.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = CargaEndToEndTest.PerfisCarga.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+class CargaEndToEndTest {
+
+    private static final String SENHA = "senha-carga";
+    private static final String ENDERECO_JSON = """
+            {"rua":"Rua da Carga","numero":"123","complemento":"Sala 1","cidade":"São Paulo","estado":"SP","cep":"01001-000"}""";
+
+    private final int concorrencia = Integer.getInteger("carga.concorrencia", 32);
+    private final Duration duracao = Duration.parse(System.getProperty("carga.duracao", "PT30S"));
+    private final Duration aquecimento = Duration.parse(System.getProperty("carga.aquecimento", "PT10S"));
+    private final int quantidadeUsuarios = Integer.getInteger("carga.usuarios", 200);
+    private final boolean threadsVirtuais = Boolean.getBoolean("carga.threads-virtuais");
+    private final Path diretorioResultados = Path.of(System.getProperty("carga.resultados", "build/results/carga"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private AtomicReferenceArray<String> tokens;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        BancoEmbutido.registrar(registry);
+    }
+
+    @BeforeAll
+    void popularUsuarios() throws Exception {
+        String hash = passwordEncoder.encode(SENHA);
+        List<Usuario> usuarios = new ArrayList<>(quantidadeUsuarios);
+        for (int i = 0; i < quantidadeUsuarios; i++) {
+            usuarios.add(Usuario.builder()
+                    .nome("Usuário Carga " + i)
+                    .email(email(i))
+                    .senha(hash)
+                    .roles(new HashSet<>(Set.of(Role.USUARIO)))
+                    .build());
+        }
+        usuarioRepository.saveAll(usuarios);
+
+        tokens = new AtomicReferenceArray<>(quantidadeUsuarios);
+        for (int i = 0; i < quantidadeUsuarios; i++) {
+            HttpResponse<String> resposta = login(i);
+            assertThat(resposta.statusCode()).isEqualTo(200);
+            tokens.set(i, accessToken(resposta));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PerfilCarga.class)
+    void medirPerfil(PerfilCarga perfil) throws Exception {
+        executar(perfil, aquecimento);
+        Map<Operacao, MedicaoEndpoint> medicoes = executar(perfil, duracao);
+
+        double segundos = duracao.toMillis() / 1000.0;
+        List<Resultado> resultados = medicoes.entrySet().stream()
+                .map(entrada -> entrada.getValue().resultado(entrada.getKey().getEndpoint(), segundos))
+                .toList();
+
+        log.info("Perfil {} com {} conexões por {}s ({}):", perfil, concorrencia, (long) segundos, modo());
+        resultados.forEach(resultado -> log.info("  {}", resultado));
+        gravar(perfil, resultados);
+
+        long total = resultados.stream().mapToLong(Resultado::requisicoes).sum();
+        long erros = resultados.stream().mapToLong(Resultado::erros).sum();
+        assertThat(total).isPositive();
+        assertThat(erros).isZero();
+    }
+
+    private Map<Operacao, MedicaoEndpoint> executar(PerfilCarga perfil, Duration janela) throws Exception {
+        Map<Operacao, MedicaoEndpoint> medicoes = new EnumMap<>(Operacao.class);
+        for (Operacao operacao : Operacao.values()) {
+            medicoes.put(operacao, new MedicaoEndpoint());
+        }
+
+        long fim = System.nanoTime() + janela.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+        try {
+            List<Future<?>> trabalhadores = new ArrayList<>(concorrencia);
+            for (int i = 0; i < concorrencia; i++) {
+                trabalhadores.add(executor.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        Operacao operacao = perfil.sortear();
+                        int usuario = ThreadLocalRandom.current().nextInt(quantidadeUsuarios);
+                        long inicio = System.nanoTime();
+                        boolean sucesso = requisitar(operacao, usuario);
+                        medicoes.get(operacao).registrar(inicio, sucesso);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> trabalhador : trabalhadores) {
+                trabalhador.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return medicoes;
+    }
+
+    private boolean requisitar(Operacao operacao, int usuario) throws IOException, InterruptedException {
+        HttpResponse<String> resposta = switch (operacao) {
+            case LOGIN -> login(usuario);
+            case PERFIL -> httpClient.send(autenticada(usuario, "/usuarios/perfil").GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            case ENDERECO -> httpClient.send(autenticada(usuario, "/usuarios/endereco")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(ENDERECO_JSON))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+        };
+
+        boolean sucesso = resposta.statusCode() / 100 == 2;
+        if (sucesso && operacao == Operacao.LOGIN) {
+            tokens.set(usuario, accessToken(resposta));
+        }
+        return sucesso;
+    }
+
+    private HttpResponse<String> login(int usuario) throws IOException, InterruptedException {
+        String corpo = objectMapper.writeValueAsString(Map.of("email", email(usuario), "senha", SENHA));
+        HttpRequest request = HttpRequest.newBuilder(uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder autenticada(int usuario, String caminho) {
+        return HttpRequest.newBuilder(uri(caminho)).header("Authorization", "Bearer " + tokens.get(usuario));
+    }
+
+    private String accessToken(HttpResponse<String> resposta) throws IOException {
+        return objectMapper.readTree(resposta.body()).get("accessToken").asText();
+    }
+
+    private void gravar(PerfilCarga perfil, List<Resultado> resultados) throws IOException {
+        Files.createDirectories(diretorioResultados);
+        Map<String, Object> relatorio = Map.of(
+                "perfil", perfil.name(),
+                "modo", modo(),
+                "concorrencia", concorrencia,
+                "duracaoSegundos", duracao.toSeconds(),
+                "endpoints", resultados);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(diretorioResultados.resolve(perfil.name().toLowerCase() + "-" + modo() + ".json").toFile(),
+                        relatorio);
+    }
+
+    private String modo() {
+        return threadsVirtuais ? "virtual" : "plataforma";
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + caminho);
+    }
+
+    private static String email(int indice) {
+        return "carga-" + indice + "@exemplo.com";
+    }
+
+    // Com threads virtuais a aplicação roda como em produção no profile virtual, incluindo o pool do Hikari
+    static class PerfisCarga implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return Boolean.getBoolean("carga.threads-virtuais")
+                    ? new String[] {"carga", "virtual"}
+                    : new String[] {"carga"};
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.nivaldosilva.cadastro_usuarios.carga;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latências de um endpoint em microssegundos, registradas por várias threads ao mesmo tempo.
+ */
+public class MedicaoEndpoint {
+
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histograma = new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3);
+    private final LongAdder erros = new LongAdder();
+
+    public void registrar(long inicioNanos, boolean sucesso) {
+        long duracaoUs = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicioNanos);
+        histograma.recordValue(Math.min(duracaoUs, LATENCIA_MAXIMA_US));
+        if (!sucesso) {
+            erros.increment();
+        }
+    }
+
+    public Resultado resultado(String endpoint, double segundos) {
+        long total = histograma.getTotalCount();
+        return new Resultado(
+                endpoint,
+                total,
+                erros.sum(),
+                total / segundos,
+                histograma.getValueAtPercentile(50) / 1000.0,
+                histograma.getValueAtPercentile(99) / 1000.0,
+                histograma.getValueAtPercentile(99.9) / 1000.0,
+                histograma.getMaxValue() / 1000.0);
+    }
+
+    public record Resultado(String endpoint, long requisicoes, long erros, double porSegundo,
+                            double p50Ms, double p99Ms, double p999Ms, double maximoMs) {
+
+        @Override
+        public String toString() {
+            return String.format("%-26s %9d req %6d erros %9.1f req/s  p50 %8.2f ms  p99 %8.2f ms  p999 %8.2f ms  max %8.2f ms",
+                    endpoint, requisicoes, erros, porSegundo, p50Ms, p99Ms, p999Ms, maximoMs);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.nivaldosilva.cadastro_usuarios.carga;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PerfilCarga {
+
+    LOGIN(80, 15, 5),
+    LEITURA(10, 85, 5),
+    ESCRITA(10, 30, 60);
+
+    private final int pesoLogin;
+    private final int pesoPerfil;
+    private final int pesoEndereco;
+
+    public Operacao sortear() {
+        int valor = ThreadLocalRandom.current().nextInt(pesoLogin + pesoPerfil + pesoEndereco);
+        if (valor < pesoLogin) {
+            return Operacao.LOGIN;
+        }
+        return valor < pesoLogin + pesoPerfil ? Operacao.PERFIL : Operacao.ENDERECO;
+    }
+
+    public enum Operacao {
+        LOGIN("POST /auth/login"),
+        PERFIL("GET /usuarios/perfil"),
+        ENDERECO("POST /usuarios/endereco");
+
+        @Getter
+        private final String endpoint;
+
+        Operacao(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.nivaldosilva.cadastro_usuarios.carga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.nivaldosilva.cadastro_usuarios.entities.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compara inserções com chave primária UUID v4 (aleatória) e v7 (ordenada pelo tempo): vazão e tamanho final do
+ * índice da chave primária. Parâmetros: carga.uuid.linhas (obrigatório; sem ele o teste é ignorado) e
+ * carga.resultados.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "carga.uuid.linhas", matches = "\\d+")
+class UuidIndiceBenchmarkTest {
+
+    private static final int TAMANHO_LOTE = 5_000;
+
+    private final long linhas = Long.getLong("carga.uuid.linhas");
+    private final Path diretorioResultados = Path.of(System.getProperty("carga.resultados", "build/results/carga"));
+
+    @Test
+    void compararIndicesV4eV7() throws Exception {
+        DataSource dataSource = BancoEmbutido.iniciar().getPostgresDatabase(Map.of("reWriteBatchedInserts", "true"));
+
+        Map<String, Object> v4 = medir(dataSource, "uuid_v4", UUID::randomUUID);
+        Map<String, Object> v7 = medir(dataSource, "uuid_v7", UuidV7Generator::gerar);
+
+        Files.createDirectories(diretorioResultados);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(diretorioResultados.resolve("uuid-indice.json").toFile(), List.of(v4, v7));
+
+        assertThat((long) v7.get("indiceBytes")).isLessThanOrEqualTo((long) v4.get("indiceBytes"));
+    }
+
+    private Map<String, Object> medir(DataSource dataSource, String tabela, Supplier<UUID> ids) throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("drop table if exists " + tabela);
+                statement.execute("create table " + tabela + " (id uuid primary key, criado_em timestamp not null)");
+            }
+            conexao.setAutoCommit(false);
+
+            long inicio = System.nanoTime();
+            try (PreparedStatement insert = conexao.prepareStatement(
+                    "insert into " + tabela + " (id, criado_em) values (?, now())")) {
+                for (long i = 1; i <= linhas; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.addBatch();
+                    if (i % TAMANHO_LOTE == 0 || i == linhas) {
+                        insert.executeBatch();
+                        conexao.commit();
+                    }
+                }
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            long indiceBytes;
+            try (Statement statement = conexao.createStatement();
+                 ResultSet resultado = statement.executeQuery("select pg_relation_size('" + tabela + "_pkey')")) {
+                resultado.next();
+                indiceBytes = resultado.getLong(1);
+            }
+            conexao.setAutoCommit(true);
+
+            Map<String, Object> medicao = new LinkedHashMap<>();
+            medicao.put("tabela", tabela);
+            medicao.put("linhas", linhas);
+            medicao.put("segundos", segundos);
+            medicao.put("insercoesPorSegundo", linhas / segundos);
+            medicao.put("indiceBytes", indiceBytes);
+            log.info("{}: {} linhas em {} s ({} inserções/s), índice da PK com {} MiB", tabela, linhas,
+                    String.format("%.1f", segundos), String.format("%.0f", linhas / segundos), indiceBytes >> 20);
+            return medicao;
+        }
+    }
+}
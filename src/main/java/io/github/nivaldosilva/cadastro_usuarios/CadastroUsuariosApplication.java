@@ -2,8 +2,10 @@ package io.github.nivaldosilva.cadastro_usuarios;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CadastroUsuariosApplication {
 
 	public static void main(String[] args) {
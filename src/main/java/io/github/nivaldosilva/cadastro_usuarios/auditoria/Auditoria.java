@@ -0,0 +1,104 @@
+package io.github.nivaldosilva.cadastro_usuarios.auditoria;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.repository.AuditoriaRepository;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAutenticado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ponto de entrada da trilha de auditoria. Eventos críticos são inseridos no outbox dentro da transação corrente,
+ * então só existem se a mutação for confirmada; os demais entram num buffer limitado depois do commit. O
+ * {@link GravadorAuditoria} leva ambos para a tabela {@code auditoria} em lotes.
+ */
+@Component
+@Slf4j
+public class Auditoria {
+
+    private static final int TAMANHO_MAXIMO_DETALHE = 255;
+
+    private final AuditoriaRepository auditoriaRepository;
+    private final BlockingQueue<EventoAuditoria> buffer;
+    private final Counter descartados;
+
+    public Auditoria(
+            AuditoriaRepository auditoriaRepository,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.auditoria.capacidade-buffer:10000}") int capacidadeBuffer) {
+
+        this.auditoriaRepository = auditoriaRepository;
+        this.buffer = new ArrayBlockingQueue<>(capacidadeBuffer);
+        this.descartados = Counter.builder("auditoria.descartados")
+                .description("Eventos não críticos descartados por buffer cheio")
+                .register(meterRegistry);
+        Gauge.builder("auditoria.buffer", buffer, BlockingQueue::size)
+                .description("Eventos não críticos aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    public void registrar(TipoEventoAuditoria tipo, UUID alvoId, String detalhe) {
+        registrar(List.of(evento(tipo, alvoId, detalhe)));
+    }
+
+    public void registrar(List<EventoAuditoria> eventos) {
+        List<EventoAuditoria> criticos = eventos.stream().filter(evento -> evento.tipo().isCritico()).toList();
+        if (!criticos.isEmpty()) {
+            auditoriaRepository.inserirNoOutbox(criticos);
+        }
+
+        List<EventoAuditoria> demais = eventos.stream().filter(evento -> !evento.tipo().isCritico()).toList();
+        if (demais.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enfileirar(demais);
+                }
+            });
+        } else {
+            enfileirar(demais);
+        }
+    }
+
+    public EventoAuditoria evento(TipoEventoAuditoria tipo, UUID alvoId, String detalhe) {
+        if (detalhe != null && detalhe.length() > TAMANHO_MAXIMO_DETALHE) {
+            detalhe = detalhe.substring(0, TAMANHO_MAXIMO_DETALHE);
+        }
+        return new EventoAuditoria(LocalDateTime.now(), tipo, atorAtual(), alvoId, detalhe);
+    }
+
+    int drenar(List<EventoAuditoria> destino, int maximo) {
+        return buffer.drainTo(destino, maximo);
+    }
+
+    void enfileirar(List<EventoAuditoria> eventos) {
+        for (EventoAuditoria evento : eventos) {
+            if (!buffer.offer(evento)) {
+                descartados.increment();
+                log.warn("Buffer de auditoria cheio, evento descartado: {} {}", evento.tipo(), evento.alvoId());
+            }
+        }
+    }
+
+    private static UUID atorAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UsuarioAutenticado autenticado
+                ? autenticado.id()
+                : null;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.nivaldosilva.cadastro_usuarios.auditoria;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.AuditoriaResponse;
+
+/**
+ * Posição na trilha de auditoria, ordenada por {@code (ocorrido_em, id)}. O {@code id} só desempata eventos do
+ * mesmo instante: eventos do buffer são gravados depois dos do outbox, então o id não segue a ordem temporal.
+ * Serializado como {@code <ocorridoEm ISO>_<id>}.
+ */
+public record CursorAuditoria(LocalDateTime ocorridoEm, long id) {
+
+    public static CursorAuditoria doEvento(AuditoriaResponse evento) {
+        return new CursorAuditoria(evento.ocorridoEm(), evento.id());
+    }
+
+    public static CursorAuditoria de(String valor) {
+        int separador = valor.lastIndexOf('_');
+        try {
+            return new CursorAuditoria(LocalDateTime.parse(valor.substring(0, Math.max(separador, 0))),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de auditoria inválido: " + valor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ocorridoEm + "_" + id;
+    }
+}
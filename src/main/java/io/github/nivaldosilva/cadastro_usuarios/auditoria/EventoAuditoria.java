@@ -0,0 +1,15 @@
+package io.github.nivaldosilva.cadastro_usuarios.auditoria;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+
+public record EventoAuditoria(
+
+        LocalDateTime ocorridoEm,
+        TipoEventoAuditoria tipo,
+        UUID atorId,
+        UUID alvoId,
+        String detalhe
+
+) {}
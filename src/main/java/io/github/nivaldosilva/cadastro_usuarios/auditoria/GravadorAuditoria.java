@@ -0,0 +1,82 @@
+package io.github.nivaldosilva.cadastro_usuarios.auditoria;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import io.github.nivaldosilva.cadastro_usuarios.repository.AuditoriaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class GravadorAuditoria {
+
+    private final Auditoria auditoria;
+    private final AuditoriaRepository auditoriaRepository;
+    private final int lote;
+
+    private final Counter gravadosMemoria;
+    private final Counter gravadosOutbox;
+
+    public GravadorAuditoria(
+            Auditoria auditoria,
+            AuditoriaRepository auditoriaRepository,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.auditoria.lote:500}") int lote) {
+
+        this.auditoria = auditoria;
+        this.auditoriaRepository = auditoriaRepository;
+        this.lote = lote;
+        this.gravadosMemoria = gravados("memoria", meterRegistry);
+        this.gravadosOutbox = gravados("outbox", meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${usuarios.auditoria.intervalo-ms:1000}")
+    public void drenar() {
+        try {
+            drenarMemoria();
+            drenarOutbox();
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar eventos de auditoria, nova tentativa no próximo ciclo: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        drenar();
+    }
+
+    private void drenarMemoria() {
+        List<EventoAuditoria> eventos = new ArrayList<>(lote);
+        while (auditoria.drenar(eventos, lote) > 0) {
+            try {
+                auditoriaRepository.inserir(eventos);
+            } catch (DataAccessException e) {
+                auditoria.enfileirar(eventos);
+                throw e;
+            }
+            gravadosMemoria.increment(eventos.size());
+            eventos.clear();
+        }
+    }
+
+    private void drenarOutbox() {
+        int movidos;
+        do {
+            movidos = auditoriaRepository.moverDoOutbox(lote);
+            gravadosOutbox.increment(movidos);
+        } while (movidos == lote);
+    }
+
+    private static Counter gravados(String origem, MeterRegistry meterRegistry) {
+        return Counter.builder("auditoria.gravados")
+                .description("Eventos de auditoria gravados, por origem")
+                .tag("origem", origem)
+                .register(meterRegistry);
+    }
+}
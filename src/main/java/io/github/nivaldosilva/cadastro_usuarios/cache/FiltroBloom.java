@@ -0,0 +1,75 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concorrente para strings. Não suporta remoção: itens removidos continuam marcados até o filtro
+ * ser reconstruído.
+ */
+class FiltroBloom {
+
+    private final AtomicLongArray palavras;
+    private final long tamanhoBits;
+    private final int funcoes;
+    private final LongAdder bitsLigados = new LongAdder();
+
+    FiltroBloom(long capacidade, double fprAlvo) {
+        double bitsIdeais = -capacidade * Math.log(fprAlvo) / (Math.log(2) * Math.log(2));
+        int quantidadePalavras = (int) Math.max(1, Math.ceil(bitsIdeais / Long.SIZE));
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.tamanhoBits = (long) quantidadePalavras * Long.SIZE;
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanhoBits / capacidade * Math.log(2)));
+    }
+
+    void adicionar(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, tamanhoBits);
+            long mascara = 1L << bit;
+            long anterior = palavras.getAndUpdate((int) (bit >>> 6), palavra -> palavra | mascara);
+            if ((anterior & mascara) == 0) {
+                bitsLigados.increment();
+            }
+        }
+    }
+
+    boolean talvezContenha(String valor) {
+        long hash = hash(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < funcoes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, tamanhoBits);
+            if ((palavras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    double fprEstimada() {
+        return Math.pow((double) bitsLigados.sum() / tamanhoBits, funcoes);
+    }
+
+    long bytes() {
+        return tamanhoBits / Byte.SIZE;
+    }
+
+    // FNV-1a seguido do finalizador do MurmurHash3, para espalhar bem as duas metades usadas no double hashing
+    private static long hash(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
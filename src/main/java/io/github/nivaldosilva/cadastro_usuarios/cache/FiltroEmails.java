@@ -0,0 +1,166 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.github.nivaldosilva.cadastro_usuarios.datasource.RoteamentoDataSource;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro de Bloom dos emails cadastrados (já normalizados). Uma resposta negativa dispensa a consulta ao banco;
+ * uma positiva é confirmada com {@code existsByEmail}. Falsos negativos durante uma reconstrução são cobertos pelo
+ * índice único em {@code lower(email)}.
+ */
+@Component
+@Slf4j
+public class FiltroEmails {
+
+    private final UsuarioRepository usuarioRepository;
+    private final TransactionTemplate leitura;
+    private final long capacidadeMinima;
+    private final double fprAlvo;
+
+    private volatile FiltroBloom atual;
+    private volatile FiltroBloom emConstrucao;
+
+    private final LongAdder removidos = new LongAdder();
+    private final Counter ausentes;
+    private final Counter presentes;
+    private final Counter falsosPositivos;
+
+    public FiltroEmails(
+            UsuarioRepository usuarioRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.bloom.capacidade-minima:100000}") long capacidadeMinima,
+            @Value("${usuarios.bloom.fpr-alvo:0.01}") double fprAlvo) {
+
+        this.usuarioRepository = usuarioRepository;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.capacidadeMinima = capacidadeMinima;
+        this.fprAlvo = fprAlvo;
+
+        this.ausentes = consultas("ausente", meterRegistry);
+        this.presentes = consultas("presente", meterRegistry);
+        this.falsosPositivos = consultas("falso-positivo", meterRegistry);
+
+        Gauge.builder("usuarios.bloom.memoria", this, filtro -> filtro.atual == null ? 0 : filtro.atual.bytes())
+                .description("Memória ocupada pelo filtro de Bloom de emails")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.bloom.fpr.estimada", this, filtro -> filtro.atual == null ? 0 : filtro.atual.fprEstimada())
+                .description("Taxa de falsos positivos estimada pela ocupação dos bits")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.bloom.fpr.observada", this, FiltroEmails::fprObservada)
+                .description("Falsos positivos sobre consultas de emails não cadastrados")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.bloom.removidos", removidos, LongAdder::sum)
+                .description("Emails removidos ou alterados desde a última reconstrução")
+                .register(meterRegistry);
+    }
+
+    public boolean jaCadastrado(String email) {
+        FiltroBloom filtro = atual;
+        if (filtro != null && !filtro.talvezContenha(email)) {
+            ausentes.increment();
+            return false;
+        }
+
+        boolean existe = usuarioRepository.existsByEmail(email);
+        if (filtro != null) {
+            (existe ? presentes : falsosPositivos).increment();
+        }
+        return existe;
+    }
+
+    public boolean talvezCadastrado(String email) {
+        FiltroBloom filtro = atual;
+        return filtro == null || filtro.talvezContenha(email);
+    }
+
+    // emConstrucao é lido antes de atual: reconstruir() publica o novo filtro em atual antes de limpar
+    // emConstrucao, então um email adicionado durante a troca chega ao filtro que fica valendo
+    public void adicionar(String email) {
+        FiltroBloom novo = emConstrucao;
+        if (novo != null) {
+            novo.adicionar(email);
+        }
+        FiltroBloom filtro = atual;
+        if (filtro != null && filtro != novo) {
+            filtro.adicionar(email);
+        }
+    }
+
+    public void registrarRemocao() {
+        removidos.increment();
+    }
+
+    // Em segundo plano: até o primeiro filtro ficar pronto (ou se a leitura falhar), atual é null e toda consulta
+    // vai ao banco, como antes do filtro existir
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirNaInicializacao() {
+        Thread.ofPlatform().name("filtro-emails").daemon().start(this::construirInicial);
+    }
+
+    void construirInicial() {
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao construir o filtro de emails, consultas vão ao banco até a próxima reconstrução: {}",
+                    e.getMessage());
+        }
+    }
+
+    // No primário: um snapshot de réplica atrasada deixaria de fora emails recém-cadastrados
+    @Scheduled(initialDelayString = "${usuarios.bloom.reconstrucao-ms:3600000}",
+            fixedDelayString = "${usuarios.bloom.reconstrucao-ms:3600000}")
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        long capacidade = Math.max(capacidadeMinima,
+                RoteamentoDataSource.noPrimario(usuarioRepository::count) * 2);
+        FiltroBloom novo = new FiltroBloom(capacidade, fprAlvo);
+
+        emConstrucao = novo;
+        try {
+            RoteamentoDataSource.noPrimario(() -> {
+                leitura.executeWithoutResult(status -> {
+                    try (Stream<String> emails = usuarioRepository.streamEmails()) {
+                        emails.forEach(novo::adicionar);
+                    }
+                });
+                return null;
+            });
+            atual = novo;
+            removidos.reset();
+        } finally {
+            emConstrucao = null;
+        }
+
+        log.info("Filtro de emails reconstruído: capacidade {}, {} KiB, em {} ms",
+                capacidade, novo.bytes() / 1024, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private double fprObservada() {
+        double positivos = falsosPositivos.count();
+        double total = positivos + ausentes.count();
+        return total == 0 ? 0 : positivos / total;
+    }
+
+    private static Counter consultas(String resultado, MeterRegistry meterRegistry) {
+        return Counter.builder("usuarios.bloom.consultas")
+                .description("Consultas de email cadastrado pelo resultado do filtro de Bloom")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
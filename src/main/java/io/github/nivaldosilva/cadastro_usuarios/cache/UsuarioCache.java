@@ -0,0 +1,97 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.nivaldosilva.cadastro_usuarios.datasource.RoteamentoDataSource;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snapshots dos dados de autenticação por email, usados no login. A invalidação é local: em várias instâncias,
+ * uma senha trocada, um papel removido ou uma conta desativada em um nó continua valendo nos outros até o TTL
+ * ({@code usuarios.cache.ttl}, padrão 1 minuto), que por isso é curto.
+ */
+@Component
+@Slf4j
+public class UsuarioCache {
+
+    private final UsuarioRepository usuarioRepository;
+    private final Cache<String, UsuarioSnapshot> porEmail;
+    // Incrementada a cada invalidação; uma carga que começou antes dela não pode deixar o snapshot no cache
+    private final AtomicLong geracao = new AtomicLong();
+
+    public UsuarioCache(
+            UsuarioRepository usuarioRepository,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${usuarios.cache.ttl:1m}") Duration ttl) {
+
+        this.usuarioRepository = usuarioRepository;
+        this.porEmail = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, porEmail, "usuarios.por-email");
+    }
+
+    // Consulta fora do Cache.get(chave, loader): o loader roda dentro de um bloco synchronized
+    // do ConcurrentHashMap e prenderia a carrier thread durante o JDBC quando em threads virtuais.
+    // A carga vai ao primário: o login é anônimo e não tem leitura da própria escrita, e um snapshot
+    // lido de uma réplica atrasada ficaria no cache até o TTL
+    public Optional<UsuarioSnapshot> buscarPorEmail(String email) {
+        UsuarioSnapshot snapshot = porEmail.getIfPresent(email);
+        if (snapshot != null) {
+            return Optional.of(snapshot);
+        }
+        long inicio = geracao.get();
+        return RoteamentoDataSource.noPrimario(() -> usuarioRepository.findByEmail(email))
+                .map(UsuarioSnapshot::de)
+                .map(carregado -> armazenar(carregado, inicio));
+    }
+
+    private UsuarioSnapshot armazenar(UsuarioSnapshot snapshot, long inicio) {
+        if (geracao.get() != inicio) {
+            return snapshot;
+        }
+        porEmail.put(snapshot.email(), snapshot);
+
+        // remover() incrementa a geração antes de invalidar: se o incremento veio depois da primeira leitura,
+        // a remoção pode ter acontecido antes do put e o put é desfeito aqui; se veio depois desta, a remoção
+        // ainda vai acontecer depois do put
+        if (geracao.get() != inicio) {
+            porEmail.asMap().remove(snapshot.email(), snapshot);
+        }
+        return snapshot;
+    }
+
+    public void invalidar(String email) {
+        remover(email);
+
+        // Remove de novo após o commit para descartar leituras concorrentes que viram o estado antigo
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remover(email);
+                }
+            });
+        }
+    }
+
+    private void remover(String email) {
+        geracao.incrementAndGet();
+        porEmail.invalidate(email);
+        log.debug("Cache de usuario invalidado: email={}", email);
+    }
+}
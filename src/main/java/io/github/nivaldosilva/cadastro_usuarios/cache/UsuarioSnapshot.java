@@ -0,0 +1,55 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+
+public record UsuarioSnapshot(
+
+        UUID id,
+        String nome,
+        String email,
+        String senha,
+        Set<Role> roles,
+        boolean ativo,
+        boolean contaBloqueada,
+        boolean credenciaisExpiradas
+
+) {
+
+    public static UsuarioSnapshot de(Usuario usuario) {
+        return new UsuarioSnapshot(
+                usuario.getId(),
+                usuario.getNome(),
+                usuario.getEmail(),
+                usuario.getSenha(),
+                usuario.getRoles() != null ? Set.copyOf(usuario.getRoles()) : Set.of(),
+                Boolean.TRUE.equals(usuario.getAtivo()),
+                Boolean.TRUE.equals(usuario.getContaBloqueada()),
+                Boolean.TRUE.equals(usuario.getCredenciaisExpiradas()));
+    }
+
+    public Usuario paraUsuario() {
+        return Usuario.builder()
+                .id(id)
+                .nome(nome)
+                .email(email)
+                .senha(senha)
+                .roles(new HashSet<>(roles))
+                .ativo(ativo)
+                .contaBloqueada(contaBloqueada)
+                .credenciaisExpiradas(credenciaisExpiradas)
+                .build();
+    }
+
+    public boolean isAdmin() {
+        return roles.contains(Role.ADMIN);
+    }
+
+    @Override
+    public String toString() {
+        return "UsuarioSnapshot[id=" + id + ", email=" + email + ", roles=" + roles + ", ativo=" + ativo + "]";
+    }
+}
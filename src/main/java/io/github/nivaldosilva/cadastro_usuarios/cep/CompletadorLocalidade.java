@@ -0,0 +1,65 @@
+package io.github.nivaldosilva.cadastro_usuarios.cep;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.CepInconsistenteException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Confere cidade/estado de um endereço com a {@link TabelaCep} e completa os que foram omitidos. Todo endereço
+ * gravado passa por aqui, seja cadastrado sozinho ou junto com o usuário.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompletadorLocalidade {
+
+    private final TabelaCep tabelaCep;
+
+    public void completar(Usuario usuario) {
+        if (usuario.getEnderecos() != null) {
+            usuario.getEnderecos().forEach(this::completar);
+        }
+    }
+
+    public void completar(Endereco endereco) {
+        Localidade localidade = tabelaCep.buscar(endereco.getCep());
+        if (localidade == null) {
+            throw new CepInconsistenteException("CEP " + endereco.getCep() + " não pertence a nenhuma faixa conhecida");
+        }
+
+        if (!StringUtils.hasText(endereco.getEstado())) {
+            endereco.setEstado(localidade.estado());
+        } else if (!localidade.estado().equalsIgnoreCase(endereco.getEstado().trim())) {
+            throw new CepInconsistenteException(String.format("O CEP %s pertence a %s, não a %s",
+                    endereco.getCep(), localidade.estado(), endereco.getEstado()));
+        } else {
+            endereco.setEstado(localidade.estado());
+        }
+
+        if (localidade.cidade() == null) {
+            if (!StringUtils.hasText(endereco.getCidade())) {
+                throw new CepInconsistenteException(
+                        "Informe a cidade: a base de CEP não a identifica para " + endereco.getCep());
+            }
+        } else if (!StringUtils.hasText(endereco.getCidade()) || mesmaCidade(localidade.cidade(), endereco.getCidade())) {
+            endereco.setCidade(localidade.cidade());
+        } else {
+            throw new CepInconsistenteException(String.format("O CEP %s pertence a %s, não a %s",
+                    endereco.getCep(), localidade.cidade(), endereco.getCidade()));
+        }
+    }
+
+    private static boolean mesmaCidade(String a, String b) {
+        return semAcentos(a).equals(semAcentos(b));
+    }
+
+    private static String semAcentos(String cidade) {
+        return Normalizer.normalize(cidade.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
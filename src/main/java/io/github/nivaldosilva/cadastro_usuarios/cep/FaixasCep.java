@@ -0,0 +1,80 @@
+package io.github.nivaldosilva.cadastro_usuarios.cep;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Faixas de CEP ordenadas e sem sobreposição, gravadas em registros fixos de 12 bytes
+ * ({@code inicio}, {@code fim}, índice da localidade) num arquivo mapeado em memória. A busca binária lê o
+ * buffer por posição absoluta e devolve uma instância de {@link Localidade} já existente, sem alocar.
+ */
+final class FaixasCep {
+
+    private static final int TAMANHO_REGISTRO = 12;
+
+    private final ByteBuffer registros;
+    private final Localidade[] localidades;
+    private final int quantidade;
+
+    private FaixasCep(ByteBuffer registros, Localidade[] localidades) {
+        this.registros = registros;
+        this.localidades = localidades;
+        this.quantidade = registros.capacity() / TAMANHO_REGISTRO;
+    }
+
+    record Faixa(int inicio, int fim, int localidade) {}
+
+    static FaixasCep compilar(List<Faixa> faixas, Localidade[] localidades, Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        Path arquivo = Files.createTempFile(diretorio, "faixas-cep-", ".bin");
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) faixas.size() * TAMANHO_REGISTRO);
+            buffer.order(ByteOrder.nativeOrder());
+            for (Faixa faixa : faixas) {
+                buffer.putInt(faixa.inicio()).putInt(faixa.fim()).putInt(faixa.localidade());
+            }
+            buffer.force();
+            return new FaixasCep(buffer.asReadOnlyBuffer().order(ByteOrder.nativeOrder()), localidades);
+        } finally {
+            // O mapeamento continua válido depois de o arquivo ser removido
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                arquivo.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    Localidade buscar(int cep) {
+        int baixo = 0;
+        int alto = quantidade - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            int posicao = meio * TAMANHO_REGISTRO;
+            if (registros.getInt(posicao) > cep) {
+                alto = meio - 1;
+            } else if (registros.getInt(posicao + 4) < cep) {
+                baixo = meio + 1;
+            } else {
+                return localidades[registros.getInt(posicao + 8)];
+            }
+        }
+        return null;
+    }
+
+    int quantidade() {
+        return quantidade;
+    }
+
+    long bytes() {
+        return registros.capacity();
+    }
+}
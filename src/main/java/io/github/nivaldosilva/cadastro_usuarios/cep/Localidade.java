@@ -0,0 +1,6 @@
+package io.github.nivaldosilva.cadastro_usuarios.cep;
+
+/**
+ * Localidade de uma faixa de CEP. {@code cidade} é nula quando a base só conhece o estado da faixa.
+ */
+public record Localidade(String estado, String cidade) {}
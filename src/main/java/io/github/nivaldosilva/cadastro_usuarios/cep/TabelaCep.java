@@ -0,0 +1,142 @@
+package io.github.nivaldosilva.cadastro_usuarios.cep;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.BaseCepInvalidaException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Base local de faixas de CEP usada para validar e completar cidade/estado dos endereços sem chamar um serviço
+ * externo. O CSV ({@code cep_inicio,cep_fim,uf[,cidade]}) é compilado em {@link FaixasCep} na inicialização e a
+ * cada {@link #recarregar()}; consultas em andamento continuam usando a versão anterior até a troca.
+ */
+@Component
+@Slf4j
+public class TabelaCep {
+
+    private final ResourceLoader resourceLoader;
+    private final String origem;
+    private final Path diretorio;
+
+    private volatile FaixasCep atual;
+
+    public TabelaCep(
+            ResourceLoader resourceLoader,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.cep.arquivo:classpath:cep/faixas-uf.csv}") String origem,
+            @Value("${usuarios.cep.diretorio:${java.io.tmpdir}}") String diretorio) {
+
+        this.resourceLoader = resourceLoader;
+        this.origem = origem;
+        this.diretorio = Path.of(diretorio);
+        recarregar();
+
+        Gauge.builder("usuarios.cep.faixas", this, tabela -> tabela.atual.quantidade())
+                .description("Faixas de CEP carregadas")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.cep.memoria", this, tabela -> tabela.atual.bytes())
+                .description("Tamanho do arquivo mapeado com as faixas de CEP")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Localidade do CEP ({@code 00000-000} ou {@code 00000000}), ou {@code null} se o formato for inválido ou o
+     * CEP não pertencer a nenhuma faixa.
+     */
+    public Localidade buscar(String cep) {
+        int numero = paraNumero(cep);
+        return numero < 0 ? null : atual.buscar(numero);
+    }
+
+    public synchronized int recarregar() {
+        Resource recurso = resourceLoader.getResource(origem);
+        try {
+            FaixasCep novas = compilar(recurso);
+            atual = novas;
+            log.info("Base de CEP carregada de {}: {} faixas", origem, novas.quantidade());
+            return novas.quantidade();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar a base de CEP de " + origem, e);
+        }
+    }
+
+    public String getOrigem() {
+        return origem;
+    }
+
+    private FaixasCep compilar(Resource recurso) throws IOException {
+        List<FaixasCep.Faixa> faixas = new ArrayList<>();
+        Map<Localidade, Integer> indices = new HashMap<>();
+        List<Localidade> localidades = new ArrayList<>();
+
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(recurso.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            int numeroLinha = 0;
+            while ((linha = leitor.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] colunas = linha.split(",", -1);
+                int inicio = colunas.length >= 3 ? paraNumero(colunas[0].trim()) : -1;
+                int fim = colunas.length >= 3 ? paraNumero(colunas[1].trim()) : -1;
+                if (inicio < 0 || fim < inicio) {
+                    throw new BaseCepInvalidaException("Faixa de CEP inválida na linha " + numeroLinha + ": " + linha);
+                }
+                String cidade = colunas.length > 3 && !colunas[3].isBlank() ? colunas[3].trim() : null;
+                Localidade localidade = new Localidade(colunas[2].trim().toUpperCase(Locale.ROOT), cidade);
+                int indice = indices.computeIfAbsent(localidade, nova -> {
+                    localidades.add(nova);
+                    return localidades.size() - 1;
+                });
+                faixas.add(new FaixasCep.Faixa(inicio, fim, indice));
+            }
+        }
+
+        faixas.sort(Comparator.comparingInt(FaixasCep.Faixa::inicio));
+        for (int i = 1; i < faixas.size(); i++) {
+            if (faixas.get(i).inicio() <= faixas.get(i - 1).fim()) {
+                throw new BaseCepInvalidaException(String.format("Faixas de CEP sobrepostas: %08d-%08d e %08d-%08d",
+                        faixas.get(i - 1).inicio(), faixas.get(i - 1).fim(),
+                        faixas.get(i).inicio(), faixas.get(i).fim()));
+            }
+        }
+        return FaixasCep.compilar(faixas, localidades.toArray(Localidade[]::new), diretorio);
+    }
+
+    static int paraNumero(String cep) {
+        if (cep == null) {
+            return -1;
+        }
+        int numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < cep.length(); i++) {
+            char c = cep.charAt(i);
+            if (c >= '0' && c <= '9' && digitos < 8) {
+                numero = numero * 10 + (c - '0');
+                digitos++;
+            } else if (c != '-' || i != 5) {
+                return -1;
+            }
+        }
+        return digitos == 8 ? numero : -1;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.nivaldosilva.cadastro_usuarios.config;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Acompanha via JFR os eventos {@code jdk.VirtualThreadPinned}: uma thread virtual bloqueada dentro de
+ * {@code synchronized} ou código nativo prende a carrier thread e reduz a concorrência efetiva.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class MonitorPinningThreadsVirtuais implements DisposableBean {
+
+    private static final int FRAMES_NO_LOG = 12;
+
+    private final Counter pinnings;
+    private final Duration limite;
+    private RecordingStream stream;
+
+    public MonitorPinningThreadsVirtuais(
+            MeterRegistry meterRegistry,
+            @Value("${threads-virtuais.pinning.limite:20ms}") Duration limite) {
+        this.limite = limite;
+        this.pinnings = Counter.builder("threads.virtuais.pinning")
+                .description("Threads virtuais que prenderam a carrier thread acima do limite")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(limite).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        stream.startAsync();
+        log.info("Monitorando pinning de threads virtuais acima de {} ms", limite.toMillis());
+    }
+
+    private void registrar(RecordedEvent evento) {
+        pinnings.increment();
+        if (log.isWarnEnabled()) {
+            String pilha = evento.getStackTrace() == null ? "(sem stack trace)"
+                    : evento.getStackTrace().getFrames().stream()
+                            .limit(FRAMES_NO_LOG)
+                            .map(MonitorPinningThreadsVirtuais::formatar)
+                            .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+            log.warn("Thread virtual presa à carrier por {} ms:\n{}", evento.getDuration().toMillis(), pilha);
+        }
+    }
+
+    private static String formatar(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
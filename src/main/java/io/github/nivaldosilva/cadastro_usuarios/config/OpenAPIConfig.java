@@ -49,7 +49,7 @@ public class OpenAPIConfig {
                         ## 🛡️ Segurança
                         - Autenticação stateless com **JWT assinado via RSA (RS256)**
                         - Controle de acesso baseado em roles com **Spring Security**
-                        - Senhas criptografadas com **BCrypt (strength 12)**
+                        - Senhas criptografadas com **BCrypt** (força calibrada na inicialização)
                         - Refresh token para renovação segura de sessão
 
                         ## 🔑 Como Autenticar
@@ -0,0 +1,74 @@
+package io.github.nivaldosilva.cadastro_usuarios.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.nivaldosilva.cadastro_usuarios.datasource.Replica;
+import io.github.nivaldosilva.cadastro_usuarios.datasource.RoteamentoDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Ativada quando {@code usuarios.replicas.urls} está preenchida; sem réplicas a aplicação usa o DataSource
+ * padrão do Spring Boot.
+ */
+@Configuration
+@ConditionalOnExpression("!'${usuarios.replicas.urls:}'.isBlank()")
+public class ReplicasConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(
+            HikariDataSource primarioDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${usuarios.replicas.urls}") List<String> urls,
+            @Value("${usuarios.replicas.username:${spring.datasource.username}}") String username,
+            @Value("${usuarios.replicas.password:${spring.datasource.password}}") String password,
+            @Value("${usuarios.replicas.pool-maximo:20}") int poolMaximo,
+            @Value("${usuarios.replicas.janela-leitura-propria:5s}") Duration janelaLeituraPropria,
+            @Value("${usuarios.replicas.timeout-conexao:500ms}") Duration timeoutConexao,
+            @Value("${usuarios.replicas.timeout-validacao:250ms}") Duration timeoutValidacao) {
+
+        List<Replica> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolMaximo);
+            replica.setReadOnly(true);
+            // Curto: uma réplica fora do ar deve cair no fallback para o primário, não segurar a leitura por 30s
+            replica.setConnectionTimeout(timeoutConexao.toMillis());
+            replica.setValidationTimeout(timeoutValidacao.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(new Replica(replica.getPoolName(), replica));
+        }
+        return new RoteamentoDataSource(primarioDataSource, replicas, janelaLeituraPropria, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamentoDataSource) {
+        return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+    }
+}
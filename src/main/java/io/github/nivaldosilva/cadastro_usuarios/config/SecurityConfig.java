@@ -1,28 +1,41 @@
 package io.github.nivaldosilva.cadastro_usuarios.config;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.config.Customizer;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.util.StringUtils;
+import io.github.nivaldosilva.cadastro_usuarios.security.BCryptCalibrador;
+import io.github.nivaldosilva.cadastro_usuarios.security.CachingJwtDecoder;
+import io.github.nivaldosilva.cadastro_usuarios.security.ExecutorPasswordEncoder;
+import io.github.nivaldosilva.cadastro_usuarios.security.JwtChaves;
+import io.github.nivaldosilva.cadastro_usuarios.security.MedidoPasswordEncoder;
+import io.github.nivaldosilva.cadastro_usuarios.security.SenhaHashExecutor;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAuthenticationProvider;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAutenticadoConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Configuration
 @EnableWebSecurity
@@ -35,6 +48,21 @@ public class SecurityConfig {
     @Value("${jwt.private.key}")
     private RSAPrivateKey privateKey;
 
+    @Value("${jwt.jwk-set:}")
+    private String jwkSetLocation;
+
+    @Value("${jwt.signing.algorithm:RS256}")
+    private String signingAlgorithm;
+
+    @Value("${jwt.signing.key-id:rsa-legacy}")
+    private String signingKeyId;
+
+    @Value("${jwt.decoder.cache.enabled:true}")
+    private boolean jwtDecoderCacheEnabled;
+
+    @Value("${jwt.decoder.cache.max-size:10000}")
+    private long jwtDecoderCacheMaxSize;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -51,10 +79,12 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui.html").permitAll()
                         .requestMatchers("/swagger-resources/**").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("SCOPE_ADMIN")
                         .anyRequest().authenticated())
 
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt ->
+                        jwt.jwtAuthenticationConverter(new UsuarioAutenticadoConverter())))
                 .sessionManagement(session ->
 						session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
@@ -62,24 +92,54 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtChaves jwtChaves(ResourceLoader resourceLoader) throws IOException {
+        if (!StringUtils.hasText(jwkSetLocation)) {
+            return JwtChaves.dePem(publicKey, privateKey, signingKeyId, signingAlgorithm);
+        }
+        String json = resourceLoader.getResource(jwkSetLocation).getContentAsString(StandardCharsets.UTF_8);
+        return JwtChaves.deJwkSet(json, signingKeyId, signingAlgorithm);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwtChaves jwtChaves, MeterRegistry meterRegistry,
+                                 ObjectProvider<OAuth2TokenValidator<Jwt>> validadores) {
+        List<OAuth2TokenValidator<Jwt>> adicionais = validadores.orderedStream().toList();
+        OAuth2TokenValidator<Jwt> validator = adicionais.isEmpty()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithValidators(adicionais);
+
+        JwtDecoder decoder = jwtChaves.decoder(validator);
+        if (jwtDecoderCacheEnabled) {
+            decoder = new CachingJwtDecoder(decoder, validator, jwtDecoderCacheMaxSize, meterRegistry);
+        }
+
+        JwtDecoder delegate = decoder;
+        Timer tempoDecode = Timer.builder("jwt.decode")
+                .description("Tempo de decodificação e validação de JWT")
+                .register(meterRegistry);
+        return token -> tempoDecode.record(() -> delegate.decode(token));
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
-        var jwk = new RSAKey.Builder(this.publicKey).privateKey(privateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    public JwtEncoder jwtEncoder(JwtChaves jwtChaves, MeterRegistry meterRegistry) {
+        JwtEncoder encoder = jwtChaves.encoder();
+        Timer tempoEncode = Timer.builder("jwt.encode")
+                .description("Tempo de assinatura de JWT")
+                .tag("algoritmo", jwtChaves.algoritmoJws().getName())
+                .register(meterRegistry);
+        return parametros -> tempoEncode.record(() -> encoder.encode(parametros));
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(SenhaHashExecutor senhaHashExecutor, BCryptCalibrador calibrador,
+                                           MeterRegistry meterRegistry) {
+        PasswordEncoder bcrypt = new MedidoPasswordEncoder(
+                new BCryptPasswordEncoder(calibrador.definirForca()), meterRegistry);
+        return new ExecutorPasswordEncoder(bcrypt, senhaHashExecutor);
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(
-            AuthenticationConfiguration authenticationConfiguration) throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
+    public AuthenticationManager authenticationManager(UsuarioAuthenticationProvider usuarioAuthenticationProvider) {
+        return new ProviderManager(usuarioAuthenticationProvider);
     }
 }
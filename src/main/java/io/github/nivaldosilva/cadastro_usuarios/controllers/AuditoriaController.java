@@ -0,0 +1,37 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers;
+
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.AuditoriaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.PaginaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.service.AuditoriaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/auditoria")
+@RequiredArgsConstructor
+@Tag(name = "Auditoria", description = "Trilha de auditoria das alterações de usuários")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AuditoriaController {
+
+    private final AuditoriaService auditoriaService;
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    @Operation(summary = "Consultar eventos de auditoria, do mais recente ao mais antigo")
+    public ResponseEntity<PaginaResponse<AuditoriaResponse>> consultar(
+            @RequestParam(required = false) UUID alvo,
+            @RequestParam(required = false) UUID ator,
+            @RequestParam(required = false) TipoEventoAuditoria tipo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        return ResponseEntity.ok(auditoriaService.consultarPagina(alvo, ator, tipo, cursor, tamanho));
+    }
+}
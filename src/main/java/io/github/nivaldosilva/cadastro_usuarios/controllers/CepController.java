@@ -0,0 +1,46 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers;
+
+import io.github.nivaldosilva.cadastro_usuarios.cep.Localidade;
+import io.github.nivaldosilva.cadastro_usuarios.cep.TabelaCep;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.CepResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.RecargaCepResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/ceps")
+@RequiredArgsConstructor
+@Tag(name = "CEPs", description = "Consulta à base local de faixas de CEP")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CepController {
+
+    private final TabelaCep tabelaCep;
+
+    @GetMapping("/{cep}")
+    @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
+    @Operation(summary = "Consultar cidade e estado de um CEP")
+    public ResponseEntity<CepResponse> consultar(@PathVariable String cep) {
+        Localidade localidade = tabelaCep.buscar(cep);
+        if (localidade == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(CepResponse.builder()
+                .cep(cep)
+                .cidade(localidade.cidade())
+                .estado(localidade.estado())
+                .build());
+    }
+
+    @PostMapping("/recarregar")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    @Operation(summary = "Recarregar a base de CEP sem reiniciar a aplicação")
+    public ResponseEntity<RecargaCepResponse> recarregar() {
+        int faixas = tabelaCep.recarregar();
+        return ResponseEntity.ok(new RecargaCepResponse(tabelaCep.getOrigem(), faixas));
+    }
+}
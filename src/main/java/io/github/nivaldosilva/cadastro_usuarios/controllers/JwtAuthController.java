@@ -7,10 +7,13 @@ import io.github.nivaldosilva.cadastro_usuarios.controllers.response.LoginRespon
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
 import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import io.github.nivaldosilva.cadastro_usuarios.security.IpCliente;
 import io.github.nivaldosilva.cadastro_usuarios.security.JwtAuthenticationService;
+import io.github.nivaldosilva.cadastro_usuarios.security.LimitadorLogin;
 import io.github.nivaldosilva.cadastro_usuarios.service.UsuarioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -28,10 +31,14 @@ public class JwtAuthController {
 
     private final JwtAuthenticationService autenticacaoService;
     private final UsuarioService usuarioService;
+    private final LimitadorLogin limitadorLogin;
+    private final IpCliente ipCliente;
 
     @PostMapping("/login")
     @Operation(summary = "Fazer login")
-    public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest loginRequest) {
+    public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest loginRequest,
+                                               HttpServletRequest request) {
+        limitadorLogin.verificar(ipCliente.resolver(request), UsuarioMapper.normalizarEmail(loginRequest.getEmail()));
         LoginResponse response = autenticacaoService.autenticarUsuario(loginRequest);
         return ResponseEntity.ok(response);
     }
@@ -1,9 +1,13 @@
 package io.github.nivaldosilva.cadastro_usuarios.controllers;
 
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.request.EnderecoRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.request.TelefoneRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroLoteRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.EnderecoResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.PaginaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.RegistroLoteResponse;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.TelefoneResponse;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
@@ -12,21 +16,30 @@ import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
 import io.github.nivaldosilva.cadastro_usuarios.mappers.EnderecoMapper;
 import io.github.nivaldosilva.cadastro_usuarios.mappers.TelefoneMapper;
 import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAutenticado;
+import io.github.nivaldosilva.cadastro_usuarios.service.RegistroLoteService;
 import io.github.nivaldosilva.cadastro_usuarios.service.UsuarioService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/usuarios")
@@ -36,18 +49,51 @@ import java.util.stream.Collectors;
 public class UsuarioController {
 
     private final UsuarioService usuarioService;
+    private final RegistroLoteService registroLoteService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
     @Operation(summary = "Listar usuários")
-    public ResponseEntity<List<UsuarioResponse>> listar() {
-        List<Usuario> usuarios = usuarioService.listarTodos();
-        List<UsuarioResponse> response = usuarios.stream()
-                .map(UsuarioMapper::toResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<PaginaResponse<UsuarioResponse>> listar(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        PaginaResponse<UsuarioResponse> response = usuarioService.listarPagina(cursor, tamanho);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/busca")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    @Operation(summary = "Buscar usuários por nome, email, role, situação e endereço")
+    public ResponseEntity<PaginaResponse<UsuarioResponse>> buscar(
+            @Valid BuscaUsuariosRequest filtro,
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        return ResponseEntity.ok(usuarioService.buscarPagina(filtro, cursor, tamanho));
+    }
+
+    @GetMapping(value = "/exportar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    @Operation(summary = "Exportar usuários (NDJSON)")
+    public void exportar(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        OutputStream saida = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(UsuarioResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        usuarioService.exportarTodos(usuario -> {
+            try {
+                writer.writeValue(saida, usuario);
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        saida.flush();
+    }
+
     @PostMapping("/admin")
     @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
     @Operation(summary = "Criar administrador")
@@ -57,6 +103,14 @@ public class UsuarioController {
         return ResponseEntity.status(HttpStatus.CREATED).body(UsuarioMapper.toResponse(novoUsuario));
     }
 
+    @PostMapping("/lote")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    @Operation(summary = "Registrar usuários em lote")
+    public ResponseEntity<RegistroLoteResponse> registrarLote(@RequestBody @Valid RegistroLoteRequest request) {
+        RegistroLoteResponse response = registroLoteService.registrarLote(request.usuarios());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
     @Operation(summary = "Deletar usuário")
@@ -68,39 +122,40 @@ public class UsuarioController {
     @GetMapping("/perfil")
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Ver perfil")
-    public ResponseEntity<UsuarioResponse> verPerfil() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        Usuario usuario = usuarioService.buscarPorEmail(email);
-        return ResponseEntity.ok(UsuarioMapper.toResponse(usuario));
+    public ResponseEntity<UsuarioResponse> verPerfil(@AuthenticationPrincipal UsuarioAutenticado autenticado) {
+        return ResponseEntity.ok(usuarioService.buscarPerfil(autenticado.id()));
     }
 
     @PutMapping("/perfil")
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Atualizar perfil")
-    public ResponseEntity<UsuarioResponse> atualizarPerfil(@RequestBody @Valid RegistroUsuarioRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    public ResponseEntity<UsuarioResponse> atualizarPerfil(
+            @AuthenticationPrincipal UsuarioAutenticado autenticado,
+            @RequestBody @Valid RegistroUsuarioRequest request) {
         Usuario usuario = UsuarioMapper.toEntity(request);
-        Usuario usuarioAtualizado = usuarioService.atualizarPerfil(email, usuario);
+        Usuario usuarioAtualizado = usuarioService.atualizarPerfil(autenticado.email(), usuario);
         return ResponseEntity.ok(UsuarioMapper.toResponse(usuarioAtualizado));
     }
 
     @PostMapping("/endereco")
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Cadastrar endereço")
-    public ResponseEntity<EnderecoResponse> cadastrarEndereco(@RequestBody @Valid EnderecoRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    public ResponseEntity<EnderecoResponse> cadastrarEndereco(
+            @AuthenticationPrincipal UsuarioAutenticado autenticado,
+            @RequestBody @Valid EnderecoRequest request) {
         Endereco endereco = EnderecoMapper.toEntity(request);
-        Endereco novoEndereco = usuarioService.cadastrarEndereco(email, endereco);
+        Endereco novoEndereco = usuarioService.cadastrarEndereco(autenticado, endereco);
         return ResponseEntity.status(HttpStatus.CREATED).body(EnderecoMapper.toResponse(novoEndereco));
     }
 
     @PostMapping("/telefone")
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Cadastrar telefone")
-    public ResponseEntity<TelefoneResponse> cadastrarTelefone(@RequestBody @Valid TelefoneRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+    public ResponseEntity<TelefoneResponse> cadastrarTelefone(
+            @AuthenticationPrincipal UsuarioAutenticado autenticado,
+            @RequestBody @Valid TelefoneRequest request) {
         Telefone telefone = TelefoneMapper.toEntity(request);
-        Telefone novoTelefone = usuarioService.cadastrarTelefone(email, telefone);
+        Telefone novoTelefone = usuarioService.cadastrarTelefone(autenticado, telefone);
         return ResponseEntity.status(HttpStatus.CREATED).body(TelefoneMapper.toResponse(novoTelefone));
     }
 
@@ -108,11 +163,11 @@ public class UsuarioController {
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Atualizar endereço")
     public ResponseEntity<EnderecoResponse> atualizarEndereco(
+            @AuthenticationPrincipal UsuarioAutenticado autenticado,
             @PathVariable UUID id,
             @RequestBody @Valid EnderecoRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
         Endereco endereco = EnderecoMapper.toEntity(request);
-        Endereco enderecoAtualizado = usuarioService.atualizarEndereco(email, id, endereco);
+        Endereco enderecoAtualizado = usuarioService.atualizarEndereco(autenticado, id, endereco);
         return ResponseEntity.ok(EnderecoMapper.toResponse(enderecoAtualizado));
     }
 
@@ -120,11 +175,11 @@ public class UsuarioController {
     @PreAuthorize("hasAnyAuthority('SCOPE_ADMIN', 'SCOPE_USUARIO')")
     @Operation(summary = "Atualizar telefone")
     public ResponseEntity<TelefoneResponse> atualizarTelefone(
+            @AuthenticationPrincipal UsuarioAutenticado autenticado,
             @PathVariable UUID id,
             @RequestBody @Valid TelefoneRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
         Telefone telefone = TelefoneMapper.toEntity(request);
-        Telefone telefoneAtualizado = usuarioService.atualizarTelefone(email, id, telefone);
+        Telefone telefoneAtualizado = usuarioService.atualizarTelefone(autenticado, id, telefone);
         return ResponseEntity.ok(TelefoneMapper.toResponse(telefoneAtualizado));
     }
 }
@@ -0,0 +1,38 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.request;
+
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+public record BuscaUsuariosRequest(
+
+        @Size(min = 1, max = 100, message = "O prefixo do nome deve ter entre 1 e 100 caracteres.")
+        String nome,
+
+        @Size(min = 3, max = 100, message = "O trecho do nome deve ter entre 3 e 100 caracteres.")
+        String nomeContem,
+
+        @Email(message = "Formato de email inválido.")
+        String email,
+
+        Role role,
+
+        Boolean ativo,
+
+        @Size(min = 1, max = 150, message = "A cidade deve ter entre 1 e 150 caracteres.")
+        String cidade,
+
+        @Size(min = 2, max = 2, message = "O estado deve ter 2 caracteres.")
+        String estado
+
+) {
+
+    // O índice de endereços começa pelo estado; cidades homônimas existem em vários estados
+    @AssertTrue(message = "A busca por cidade exige o estado.")
+    public boolean isCidadeComEstado() {
+        return cidade == null || estado != null;
+    }
+}
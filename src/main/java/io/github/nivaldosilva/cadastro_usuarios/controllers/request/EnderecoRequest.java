@@ -20,11 +20,12 @@ public record EnderecoRequest(
         @Size(min = 1, max = 100, message = "O complemento deve ter entre 1 e 100 caracteres.")
         String complemento,
 
-        @NotBlank(message = "A cidade é obrigatória.") 
+        @NotBlank(message = "A cidade é obrigatória.")
         @Size(min = 1, max = 100, message = "A cidade deve ter entre 1 e 100 caracteres.")
         String cidade,
 
-        @NotBlank(message = "O estado é obrigatório.") @Size(min = 2, max = 2, message = "O estado deve ter 2 caracteres.") 
+        // Completado pela base de CEP quando omitido
+        @Size(min = 2, max = 2, message = "O estado deve ter 2 caracteres.")
         String estado,
 
         @NotBlank(message = "O CEP é obrigatório.") 
@@ -0,0 +1,15 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.request;
+
+import java.util.List;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+public record RegistroLoteRequest(
+
+        @NotEmpty(message = "O lote deve conter ao menos um usuário")
+        @Size(max = 1000, message = "O lote deve ter no máximo 1000 usuários")
+        List<RegistroUsuarioRequest> usuarios
+
+) {}
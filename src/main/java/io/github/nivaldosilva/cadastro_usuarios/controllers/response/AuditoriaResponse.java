@@ -0,0 +1,20 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuditoriaResponse(
+
+        Long id,
+        LocalDateTime ocorridoEm,
+        TipoEventoAuditoria tipo,
+        UUID atorId,
+        UUID alvoId,
+        String detalhe
+
+) {}
@@ -0,0 +1,14 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CepResponse(
+
+        String cep,
+        String cidade,
+        String estado
+
+) {}
@@ -0,0 +1,17 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import java.util.UUID;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ItemLoteResponse(
+
+        Integer indice,
+        String email,
+        Boolean sucesso,
+        UUID id,
+        String erro
+
+) {}
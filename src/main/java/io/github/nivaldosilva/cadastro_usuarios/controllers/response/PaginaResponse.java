@@ -0,0 +1,18 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PaginaResponse<T>(
+
+        List<T> conteudo,
+        Integer tamanho,
+
+        @JsonProperty("next")
+        String proximoCursor
+
+) {}
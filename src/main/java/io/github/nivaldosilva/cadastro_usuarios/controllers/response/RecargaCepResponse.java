@@ -0,0 +1,11 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import lombok.Builder;
+
+@Builder
+public record RecargaCepResponse(
+
+        String origem,
+        int faixas
+
+) {}
@@ -0,0 +1,16 @@
+package io.github.nivaldosilva.cadastro_usuarios.controllers.response;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RegistroLoteResponse(
+
+        Integer total,
+        Integer sucessos,
+        Integer falhas,
+        List<ItemLoteResponse> itens
+
+) {}
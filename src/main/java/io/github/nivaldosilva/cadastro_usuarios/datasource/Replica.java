@@ -0,0 +1,17 @@
+package io.github.nivaldosilva.cadastro_usuarios.datasource;
+
+import javax.sql.DataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@RequiredArgsConstructor
+public class Replica {
+
+    private final String nome;
+    private final DataSource dataSource;
+
+    @Setter
+    private volatile boolean disponivel = true;
+}
@@ -0,0 +1,155 @@
+package io.github.nivaldosilva.cadastro_usuarios.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envia transações {@code readOnly} para as réplicas disponíveis (round-robin) e todo o resto para o primário.
+ * Deve ficar atrás de um {@code LazyConnectionDataSourceProxy}, para que a conexão só seja obtida depois de a
+ * transação marcar o flag de somente leitura. Leituras que não toleram atraso de replicação (autenticação, carga do
+ * cache de usuários) usam {@link #noPrimario(Supplier)}.
+ */
+@Slf4j
+public class RoteamentoDataSource extends AbstractDataSource {
+
+    private static final int TIMEOUT_VALIDACAO_SEGUNDOS = 2;
+    private static final ThreadLocal<Boolean> FORCAR_PRIMARIO = new ThreadLocal<>();
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final Cache<String, Boolean> escritasRecentes;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public RoteamentoDataSource(DataSource primario, List<Replica> replicas, Duration janelaLeituraPropria,
+                                MeterRegistry meterRegistry) {
+        this.primario = primario;
+        this.replicas = List.copyOf(replicas);
+        this.escritasRecentes = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(janelaLeituraPropria)
+                .build();
+
+        this.fallbacks = Counter.builder("datasource.replicas.fallback")
+                .description("Leituras enviadas ao primário por falta de réplica disponível")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replicas.disponiveis", this.replicas,
+                        lista -> lista.stream().filter(Replica::isDisponivel).count())
+                .description("Réplicas de leitura consideradas saudáveis")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscrita();
+            return primario.getConnection();
+        }
+        if (FORCAR_PRIMARIO.get() != null || escreveuRecentemente()) {
+            return primario.getConnection();
+        }
+
+        for (int tentativa = 0; tentativa < replicas.size(); tentativa++) {
+            Replica replica = replicas.get(Math.floorMod(proxima.getAndIncrement(), replicas.size()));
+            if (!replica.isDisponivel()) {
+                continue;
+            }
+            try {
+                return replica.getDataSource().getConnection();
+            } catch (SQLException e) {
+                replica.setDisponivel(false);
+                log.warn("Réplica {} indisponível, removida do roteamento: {}", replica.getNome(), e.getMessage());
+            }
+        }
+
+        fallbacks.increment();
+        return primario.getConnection();
+    }
+
+    // Só vale para conexões obtidas dentro do bloco: uma transação somente leitura que já pegou conexão de réplica
+    // continua nela
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        if (FORCAR_PRIMARIO.get() != null) {
+            return leitura.get();
+        }
+        FORCAR_PRIMARIO.set(Boolean.TRUE);
+        try {
+            return leitura.get();
+        } finally {
+            FORCAR_PRIMARIO.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primario.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${usuarios.replicas.verificacao-ms:10000}")
+    public void verificarReplicas() {
+        for (Replica replica : replicas) {
+            boolean disponivel = validar(replica);
+            if (disponivel != replica.isDisponivel()) {
+                log.info("Réplica {} agora {}", replica.getNome(), disponivel ? "disponível" : "indisponível");
+            }
+            replica.setDisponivel(disponivel);
+        }
+    }
+
+    private boolean validar(Replica replica) {
+        try (Connection conexao = replica.getDataSource().getConnection()) {
+            return conexao.isValid(TIMEOUT_VALIDACAO_SEGUNDOS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // Marca o usuário após o commit: até a janela expirar, as leituras dele vão ao primário
+    private void registrarEscrita() {
+        String usuario = usuarioAtual();
+        if (usuario == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            escritasRecentes.put(usuario, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                escritasRecentes.put(usuario, Boolean.TRUE);
+            }
+        });
+    }
+
+    private boolean escreveuRecentemente() {
+        String usuario = usuarioAtual();
+        return usuario != null && escritasRecentes.getIfPresent(usuario) != null;
+    }
+
+    private static String usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || autenticacao instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacao.getName();
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.nivaldosilva.cadastro_usuarios.entities;
+
+import java.util.Set;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class RolesConverter implements AttributeConverter<Set<Role>, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<Role> roles) {
+        return Role.mascara(roles);
+    }
+
+    @Override
+    public Set<Role> convertToEntityAttribute(Integer mascara) {
+        return Role.deMascara(mascara == null ? 0 : mascara);
+    }
+}
@@ -5,7 +5,7 @@ import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 public class Telefone {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     @Column(name = "numero", length = 15, nullable = false) 
@@ -33,7 +33,7 @@ public class Telefone {
     @Column(name = "ddd", length = 3, nullable = false)
     private String ddd;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usuario_id", nullable = false)
     private Usuario usuario;
 
@@ -0,0 +1,19 @@
+package io.github.nivaldosilva.cadastro_usuarios.entities;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Gera ids UUID versão 7 (RFC 9562): ordenados pelo tempo de criação, para que as inserções caiam no fim do
+ * índice da chave primária em vez de espalhadas pela árvore.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
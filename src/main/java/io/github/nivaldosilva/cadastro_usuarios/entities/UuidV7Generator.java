@@ -0,0 +1,38 @@
+package io.github.nivaldosilva.cadastro_usuarios.entities;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Milissegundos nos 48 bits altos e um contador de 12 bits (rand_a) para manter a ordem dentro do mesmo ms
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    public static UUID gerar() {
+        long agora = System.currentTimeMillis() << 12;
+        long valor = ULTIMO.updateAndGet(anterior -> Math.max(agora, anterior + 1));
+
+        long mostSignificant = (valor >>> 12) << 16 | 0x7000L | (valor & 0xFFFL);
+        long leastSignificant = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return gerar();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,13 +1,28 @@
 package io.github.nivaldosilva.cadastro_usuarios.enums;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import lombok.Getter;
 
+/**
+ * Persistido como bitmask pelo ordinal ({@code usuarios.roles}): novos papéis devem ser adicionados sempre ao final.
+ */
 @Getter
 public enum Role {
 
     ADMIN("Administrador"),
     USUARIO("Usuário");
 
+    private static final Role[] VALORES = values();
+    private static final List<Set<GrantedAuthority>> AUTHORITIES_POR_MASCARA = precomputarAuthorities();
+
     private final String descricao;
 
     Role(String descricao) {
@@ -17,4 +32,43 @@ public enum Role {
     public String getAuthority() {
         return "ROLE_" + this.name();
     }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int mascara(Collection<Role> roles) {
+        int mascara = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mascara |= role.bit();
+            }
+        }
+        return mascara;
+    }
+
+    public static Set<Role> deMascara(int mascara) {
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : VALORES) {
+            if ((mascara & role.bit()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    public static Set<GrantedAuthority> authorities(Collection<Role> roles) {
+        return AUTHORITIES_POR_MASCARA.get(mascara(roles));
+    }
+
+    // Um conjunto imutável por combinação de papéis, compartilhado por todos os usuários com a mesma combinação
+    private static List<Set<GrantedAuthority>> precomputarAuthorities() {
+        List<Set<GrantedAuthority>> authorities = new ArrayList<>(1 << VALORES.length);
+        for (int mascara = 0; mascara < 1 << VALORES.length; mascara++) {
+            authorities.add(Collections.unmodifiableSet(deMascara(mascara).stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.getAuthority()))
+                    .collect(Collectors.toSet())));
+        }
+        return List.copyOf(authorities);
+    }
 }
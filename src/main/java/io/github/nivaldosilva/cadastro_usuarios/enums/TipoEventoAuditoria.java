@@ -0,0 +1,26 @@
+package io.github.nivaldosilva.cadastro_usuarios.enums;
+
+import lombok.Getter;
+
+/**
+ * Eventos críticos vão para o outbox na transação da mutação; os demais passam pelo buffer em memória e podem ser
+ * perdidos numa queda da aplicação.
+ */
+@Getter
+public enum TipoEventoAuditoria {
+
+    USUARIO_REGISTRADO(true),
+    ADMIN_CRIADO(true),
+    USUARIO_DELETADO(true),
+    PERFIL_ATUALIZADO(true),
+    ENDERECO_CADASTRADO(false),
+    ENDERECO_ATUALIZADO(true),
+    TELEFONE_CADASTRADO(false),
+    TELEFONE_ATUALIZADO(true);
+
+    private final boolean critico;
+
+    TipoEventoAuditoria(boolean critico) {
+        this.critico = critico;
+    }
+}
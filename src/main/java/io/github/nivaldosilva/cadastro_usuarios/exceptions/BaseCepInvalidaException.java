@@ -0,0 +1,13 @@
+package io.github.nivaldosilva.cadastro_usuarios.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class BaseCepInvalidaException extends RuntimeException {
+
+    public BaseCepInvalidaException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,13 @@
+package io.github.nivaldosilva.cadastro_usuarios.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CepInconsistenteException extends RuntimeException {
+
+    public CepInconsistenteException(String message) {
+        super(message);
+    }
+
+}
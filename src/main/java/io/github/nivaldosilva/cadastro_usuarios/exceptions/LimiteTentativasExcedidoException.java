@@ -0,0 +1,19 @@
+package io.github.nivaldosilva.cadastro_usuarios.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import lombok.Getter;
+
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class LimiteTentativasExcedidoException extends RuntimeException {
+
+    private final long segundosParaNovaTentativa;
+
+    // Sem stack trace: a rejeição é o caminho comum durante um ataque e precisa custar pouco
+    public LimiteTentativasExcedidoException(String message, long segundosParaNovaTentativa) {
+        super(message, null, false, false);
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+
+}
@@ -0,0 +1,13 @@
+package io.github.nivaldosilva.cadastro_usuarios.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+
+}
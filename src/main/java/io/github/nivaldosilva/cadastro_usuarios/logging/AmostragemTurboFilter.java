@@ -0,0 +1,64 @@
+package io.github.nivaldosilva.cadastro_usuarios.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Limita a {@code limitePorSegundo} por logger as mensagens DEBUG/INFO marcadas com {@link #AMOSTRADO}. Roda antes
+ * da formatação, então uma mensagem descartada custa só a contagem. WARN e ERROR nunca são amostrados. Configurado
+ * no perfil {@code prod} do {@code logback-spring.xml}; sem ele, o marcador é ignorado.
+ */
+public class AmostragemTurboFilter extends TurboFilter {
+
+    public static final Marker AMOSTRADO = MarkerFactory.getMarker("AMOSTRADO");
+
+    private static final LongAdder SUPRIMIDAS = new LongAdder();
+
+    private final ConcurrentHashMap<String, Janela> janelas = new ConcurrentHashMap<>();
+    private int limitePorSegundo = 10;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || !marker.contains(AMOSTRADO) || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Janela janela = janelas.computeIfAbsent(logger.getName(), nome -> new Janela());
+        if (janela.permitir(System.currentTimeMillis() / 1000, limitePorSegundo)) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPRIMIDAS.increment();
+        return FilterReply.DENY;
+    }
+
+    public void setLimitePorSegundo(int limitePorSegundo) {
+        this.limitePorSegundo = limitePorSegundo;
+    }
+
+    public static long suprimidas() {
+        return SUPRIMIDAS.sum();
+    }
+
+    // A virada de segundo não é atômica com a contagem: na fronteira podem passar algumas mensagens além do limite
+    private static final class Janela {
+
+        private volatile long segundo;
+        private final AtomicInteger contagem = new AtomicInteger();
+
+        boolean permitir(long agora, int limite) {
+            if (segundo != agora) {
+                segundo = agora;
+                contagem.set(0);
+            }
+            return contagem.incrementAndGet() <= limite;
+        }
+    }
+}
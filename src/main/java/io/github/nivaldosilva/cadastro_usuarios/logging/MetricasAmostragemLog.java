@@ -0,0 +1,16 @@
+package io.github.nivaldosilva.cadastro_usuarios.logging;
+
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class MetricasAmostragemLog {
+
+    public MetricasAmostragemLog(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("logging.amostragem.suprimidas", AmostragemTurboFilter.class,
+                        filtro -> AmostragemTurboFilter.suprimidas())
+                .description("Mensagens de log por requisição descartadas pela amostragem")
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.nivaldosilva.cadastro_usuarios.mappers;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
@@ -8,12 +9,25 @@ import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Telefone;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
 import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class UsuarioMapper {
 
+    private static final Timer TEMPO_TO_ENTITY = tempo("toEntity");
+    private static final Timer TEMPO_TO_RESPONSE = tempo("toResponse");
+
     public static Usuario toEntity(RegistroUsuarioRequest request) {
+        return TEMPO_TO_ENTITY.record(() -> converterParaEntidade(request));
+    }
+
+    public static UsuarioResponse toResponse(Usuario usuario) {
+        return TEMPO_TO_RESPONSE.record(() -> converterParaResponse(usuario));
+    }
+
+    private static Usuario converterParaEntidade(RegistroUsuarioRequest request) {
 
         Set<Role> rolesFinais = request.roles();
         if (rolesFinais == null || rolesFinais.isEmpty()) {
@@ -22,7 +36,7 @@ public class UsuarioMapper {
 
         Usuario usuario = Usuario.builder()
                 .nome(request.nome())
-                .email(request.email())
+                .email(normalizarEmail(request.email()))
                 .senha(request.senha())
                 .roles(new HashSet<>(rolesFinais))
                 .ativo(true)
@@ -49,7 +63,7 @@ public class UsuarioMapper {
         return usuario;
     }
 
-    public static UsuarioResponse toResponse(Usuario usuario) {
+    private static UsuarioResponse converterParaResponse(Usuario usuario) {
         return UsuarioResponse.builder()
                 .id(usuario.getId())
                 .nome(usuario.getNome())
@@ -63,9 +77,13 @@ public class UsuarioMapper {
                 .build();
     }
 
+    public static String normalizarEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public static Usuario updateFromRequest(Usuario usuario, RegistroUsuarioRequest request) {
         usuario.setNome(request.nome());
-        usuario.setEmail(request.email());
+        usuario.setEmail(normalizarEmail(request.email()));
 
         if (request.roles() != null && !request.roles().isEmpty()) {
             usuario.setRoles(new HashSet<>(request.roles()));
@@ -73,4 +91,12 @@ public class UsuarioMapper {
 
         return usuario;
     }
-}
\ No newline at end of file
+
+    // Mapper estático: registra no registry global, ao qual o Spring Boot anexa os registries da aplicação
+    private static Timer tempo(String conversao) {
+        return Timer.builder("usuarios.mapper")
+                .description("Tempo de conversão entre entidade Usuario e DTOs")
+                .tag("conversao", conversao)
+                .register(Metrics.globalRegistry);
+    }
+}
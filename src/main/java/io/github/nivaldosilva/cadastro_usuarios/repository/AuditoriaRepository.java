@@ -0,0 +1,95 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.CursorAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.EventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.AuditoriaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Acesso JDBC às tabelas de auditoria, que não são mapeadas como entidades: as gravações são sempre em lote e a
+ * leitura projeta direto no DTO.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditoriaRepository {
+
+    private static final String COLUNAS = "ocorrido_em, tipo, ator_id, alvo_id, detalhe";
+
+    // Um único comando remove o lote do outbox e o insere na auditoria; SKIP LOCKED permite vários gravadores
+    private static final String MOVER_OUTBOX = """
+            with movidos as (
+                delete from auditoria_outbox
+                where id in (select id from auditoria_outbox order by id limit ? for update skip locked)
+                returning id, %1$s
+            )
+            insert into auditoria (%1$s)
+            select %1$s from movidos order by id
+            """.formatted(COLUNAS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void inserirNoOutbox(List<EventoAuditoria> eventos) {
+        inserir("auditoria_outbox", eventos);
+    }
+
+    public void inserir(List<EventoAuditoria> eventos) {
+        inserir("auditoria", eventos);
+    }
+
+    public int moverDoOutbox(int limite) {
+        return jdbcTemplate.update(MOVER_OUTBOX, limite);
+    }
+
+    public List<AuditoriaResponse> consultar(UUID alvoId, UUID atorId, TipoEventoAuditoria tipo,
+            CursorAuditoria cursor, int limite) {
+        StringBuilder sql = new StringBuilder("select id, " + COLUNAS + " from auditoria where true");
+        List<Object> parametros = new ArrayList<>();
+        if (alvoId != null) {
+            sql.append(" and alvo_id = ?");
+            parametros.add(alvoId);
+        }
+        if (atorId != null) {
+            sql.append(" and ator_id = ?");
+            parametros.add(atorId);
+        }
+        if (tipo != null) {
+            sql.append(" and tipo = ?");
+            parametros.add(tipo.name());
+        }
+        if (cursor != null) {
+            sql.append(" and (ocorrido_em, id) < (?, ?)");
+            parametros.add(cursor.ocorridoEm());
+            parametros.add(cursor.id());
+        }
+        sql.append(" order by ocorrido_em desc, id desc limit ?");
+        parametros.add(limite);
+
+        return jdbcTemplate.query(sql.toString(), (rs, linha) -> AuditoriaResponse.builder()
+                .id(rs.getLong("id"))
+                .ocorridoEm(rs.getObject("ocorrido_em", LocalDateTime.class))
+                .tipo(TipoEventoAuditoria.valueOf(rs.getString("tipo")))
+                .atorId(rs.getObject("ator_id", UUID.class))
+                .alvoId(rs.getObject("alvo_id", UUID.class))
+                .detalhe(rs.getString("detalhe"))
+                .build(), parametros.toArray());
+    }
+
+    private void inserir(String tabela, List<EventoAuditoria> eventos) {
+        jdbcTemplate.batchUpdate("insert into " + tabela + " (" + COLUNAS + ") values (?, ?, ?, ?, ?)",
+                eventos, eventos.size(), (ps, evento) -> {
+                    ps.setObject(1, evento.ocorridoEm());
+                    ps.setString(2, evento.tipo().name());
+                    ps.setObject(3, evento.atorId(), Types.OTHER);
+                    ps.setObject(4, evento.alvoId(), Types.OTHER);
+                    ps.setString(5, evento.detalhe());
+                });
+    }
+}
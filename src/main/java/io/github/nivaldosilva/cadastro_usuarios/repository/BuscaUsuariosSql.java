@@ -0,0 +1,67 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+
+/**
+ * Monta o SQL da busca de usuários com cada filtro escrito na forma exata da expressão indexada na V4
+ * ({@code lower(nome)}, {@code lower(email)}, {@code upper(estado)}/{@code lower(cidade)}). Role e ativo entram
+ * como literais para que o planejador reconheça os índices parciais mesmo em planos genéricos.
+ */
+record BuscaUsuariosSql(String sql, Map<String, Object> parametros) {
+
+    static BuscaUsuariosSql montar(BuscaUsuariosRequest filtro, UUID cursor, int limite) {
+        StringBuilder sql = new StringBuilder(
+                "select u.id, u.nome, u.email, u.ativo, u.roles from usuarios u where true");
+        Map<String, Object> parametros = new LinkedHashMap<>();
+
+        if (filtro.nome() != null) {
+            sql.append(" and lower(u.nome) like :nomePrefixo");
+            parametros.put("nomePrefixo", escaparLike(minusculo(filtro.nome())) + "%");
+        }
+        if (filtro.nomeContem() != null) {
+            sql.append(" and lower(u.nome) like :nomeContem");
+            parametros.put("nomeContem", "%" + escaparLike(minusculo(filtro.nomeContem())) + "%");
+        }
+        if (filtro.email() != null) {
+            sql.append(" and lower(u.email) = :email");
+            parametros.put("email", UsuarioMapper.normalizarEmail(filtro.email()));
+        }
+        if (filtro.role() != null) {
+            sql.append(" and (u.roles & ").append(filtro.role().bit()).append(") <> 0");
+        }
+        if (filtro.ativo() != null) {
+            sql.append(filtro.ativo() ? " and u.ativo" : " and u.ativo is not true");
+        }
+        if (filtro.estado() != null) {
+            sql.append(" and exists (select 1 from enderecos e where e.usuario_id = u.id"
+                    + " and upper(e.estado) = :estado");
+            parametros.put("estado", filtro.estado().trim().toUpperCase(Locale.ROOT));
+            if (filtro.cidade() != null) {
+                sql.append(" and lower(e.cidade) = :cidade");
+                parametros.put("cidade", minusculo(filtro.cidade()));
+            }
+            sql.append(")");
+        }
+        if (cursor != null) {
+            sql.append(" and u.id > :cursor");
+            parametros.put("cursor", cursor);
+        }
+
+        sql.append(" order by u.id limit :limite");
+        parametros.put("limite", limite);
+        return new BuscaUsuariosSql(sql.toString(), parametros);
+    }
+
+    private static String minusculo(String valor) {
+        return valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escaparLike(String valor) {
+        return valor.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.nivaldosilva.cadastro_usuarios.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -8,4 +9,6 @@ import io.github.nivaldosilva.cadastro_usuarios.entities.Telefone;
 @Repository
 public interface TelefoneRepository extends JpaRepository<Telefone, UUID> {
 
+    Optional<Telefone> findByIdAndUsuarioId(UUID id, UUID usuarioId);
+
 }
@@ -0,0 +1,20 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
+
+/**
+ * Consultas de leitura que projetam direto nos DTOs de resposta, sem carregar entidades: uma consulta para os
+ * usuários (com o bitmask de roles) e uma para cada tabela filha ({@code enderecos}, {@code telefones}).
+ */
+public interface UsuarioConsultaRepository {
+
+    Optional<UsuarioResponse> buscarResponsePorId(UUID id);
+
+    List<UsuarioResponse> listarResponses(UUID cursor, int limite);
+
+    List<UsuarioResponse> buscarResponses(BuscaUsuariosRequest filtro, UUID cursor, int limite);
+}
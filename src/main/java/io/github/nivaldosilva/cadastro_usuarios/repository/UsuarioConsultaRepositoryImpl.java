@@ -0,0 +1,105 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.EnderecoResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.TelefoneResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class UsuarioConsultaRepositoryImpl implements UsuarioConsultaRepository {
+
+    private static final String SELECT_USUARIOS = "select u.id, u.nome, u.email, u.ativo, u.roles from Usuario u ";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<UsuarioResponse> buscarResponsePorId(UUID id) {
+        List<Object[]> usuarios = entityManager
+                .createQuery(SELECT_USUARIOS + "where u.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        return montar(usuarios).stream().findFirst();
+    }
+
+    @Override
+    public List<UsuarioResponse> listarResponses(UUID cursor, int limite) {
+        TypedQuery<Object[]> query = cursor == null
+                ? entityManager.createQuery(SELECT_USUARIOS + "order by u.id", Object[].class)
+                : entityManager.createQuery(SELECT_USUARIOS + "where u.id > :cursor order by u.id", Object[].class)
+                        .setParameter("cursor", cursor);
+        return montar(query.setMaxResults(limite).getResultList());
+    }
+
+    @Override
+    public List<UsuarioResponse> buscarResponses(BuscaUsuariosRequest filtro, UUID cursor, int limite) {
+        BuscaUsuariosSql busca = BuscaUsuariosSql.montar(filtro, cursor, limite);
+        Query query = entityManager.createNativeQuery(busca.sql(), Object[].class);
+        busca.parametros().forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> usuarios = query.getResultList();
+        for (Object[] linha : usuarios) {
+            linha[4] = Role.deMascara(((Number) linha[4]).intValue());
+        }
+        return montar(usuarios);
+    }
+
+    private List<UsuarioResponse> montar(List<Object[]> usuarios) {
+        if (usuarios.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = usuarios.stream().map(linha -> (UUID) linha[0]).toList();
+
+        Map<UUID, List<EnderecoResponse>> enderecos = new HashMap<>();
+        for (Object[] linha : entityManager
+                .createQuery("select e.usuario.id, e.id, e.rua, e.numero, e.complemento, e.cidade, e.estado, e.cep, "
+                        + "e.dataCriacao from Endereco e where e.usuario.id in :ids order by e.dataCriacao, e.id",
+                        Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            enderecos.computeIfAbsent((UUID) linha[0], id -> new ArrayList<>()).add(new EnderecoResponse(
+                    (UUID) linha[1], (String) linha[2], (String) linha[3], (String) linha[4],
+                    (String) linha[5], (String) linha[6], (String) linha[7], (LocalDateTime) linha[8]));
+        }
+
+        Map<UUID, List<TelefoneResponse>> telefones = new HashMap<>();
+        for (Object[] linha : entityManager
+                .createQuery("select t.usuario.id, t.id, t.numero, t.ddd, t.dataCriacao from Telefone t "
+                        + "where t.usuario.id in :ids order by t.dataCriacao, t.id", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            telefones.computeIfAbsent((UUID) linha[0], id -> new ArrayList<>()).add(new TelefoneResponse(
+                    (UUID) linha[1], (String) linha[2], (String) linha[3], (LocalDateTime) linha[4]));
+        }
+
+        return usuarios.stream()
+                .map(linha -> {
+                    UUID id = (UUID) linha[0];
+                    @SuppressWarnings("unchecked")
+                    Set<Role> roles = (Set<Role>) linha[4];
+                    return UsuarioResponse.builder()
+                            .id(id)
+                            .nome((String) linha[1])
+                            .email((String) linha[2])
+                            .ativo((Boolean) linha[3])
+                            .roles(roles)
+                            .enderecos(enderecos.getOrDefault(id, List.of()))
+                            .telefones(telefones.getOrDefault(id, List.of()))
+                            .build();
+                })
+                .toList();
+    }
+}
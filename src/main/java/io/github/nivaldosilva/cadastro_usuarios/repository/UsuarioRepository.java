@@ -1,16 +1,41 @@
 package io.github.nivaldosilva.cadastro_usuarios.repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
+public interface UsuarioRepository extends JpaRepository<Usuario, UUID>, UsuarioConsultaRepository {
 
     boolean existsByEmail(String email);
 
     Optional<Usuario> findByEmail(String email);
 
+    @Query("select u.email from Usuario u where u.email in :emails")
+    Set<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from Usuario u")
+    Stream<Usuario> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.email from Usuario u")
+    Stream<String> streamEmails();
+
 }
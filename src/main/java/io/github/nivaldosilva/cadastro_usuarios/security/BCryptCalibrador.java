@@ -0,0 +1,61 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A força do BCrypt é a mesma em todas as instâncias ({@code senha.bcrypt.forca}): é ela que decide quando um hash
+ * é regravado no login, e uma força escolhida por host faria o servidor mais rápido elevar o custo de todos os
+ * hashes. A medição na inicialização só avisa quando este host fica acima ou bem abaixo da latência alvo.
+ */
+@Component
+@Slf4j
+public class BCryptCalibrador {
+
+    private static final String SENHA_AMOSTRA = "calibracao-de-custo-bcrypt";
+    private static final int MEDICOES = 2;
+
+    @Value("${senha.bcrypt.calibrar:true}")
+    private boolean calibrar;
+
+    @Value("${senha.bcrypt.forca:12}")
+    private int forca;
+
+    @Value("${senha.bcrypt.latencia-alvo-ms:250}")
+    private long latenciaAlvoMillis;
+
+    public int definirForca() {
+        if (!calibrar) {
+            log.info("BCrypt com força {}, sem medição na inicialização", forca);
+            return forca;
+        }
+
+        new BCryptPasswordEncoder(forca).encode(SENHA_AMOSTRA);
+        long duracaoMillis = medir(forca);
+
+        if (duracaoMillis > latenciaAlvoMillis) {
+            log.warn("BCrypt na força {} levou {} ms neste host, acima do alvo de {} ms; "
+                    + "reduza senha.bcrypt.forca em toda a frota ou aumente o host", forca, duracaoMillis, latenciaAlvoMillis);
+        } else if (duracaoMillis * 2 <= latenciaAlvoMillis) {
+            log.info("BCrypt na força {} levou {} ms neste host; a força {} ainda caberia no alvo de {} ms",
+                    forca, duracaoMillis, forca + 1, latenciaAlvoMillis);
+        } else {
+            log.info("BCrypt na força {} levou {} ms neste host (alvo {} ms)", forca, duracaoMillis, latenciaAlvoMillis);
+        }
+        return forca;
+    }
+
+    private long medir(int forca) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(forca);
+        long melhor = Long.MAX_VALUE;
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            encoder.encode(SENHA_AMOSTRA);
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(melhor);
+    }
+}
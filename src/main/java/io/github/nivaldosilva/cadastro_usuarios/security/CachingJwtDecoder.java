@@ -0,0 +1,102 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.stream.Collectors;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> validator;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> validator,
+                             long tamanhoMaximo, MeterRegistry meterRegistry) {
+        this(delegate, validator, tamanhoMaximo, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, OAuth2TokenValidator<Jwt> validator,
+                      long tamanhoMaximo, MeterRegistry meterRegistry, Ticker ticker) {
+        this.delegate = delegate;
+        this.validator = validator;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiraComOToken())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.decodificados");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String chave = chave(token);
+
+        Jwt jwt = cache.getIfPresent(chave);
+        if (jwt == null) {
+            jwt = delegate.decode(token);
+            cache.put(chave, jwt);
+            return jwt;
+        }
+
+        // A assinatura já foi verificada, mas expiração e validadores de revogação precisam rodar a cada uso
+        OAuth2TokenValidatorResult resultado = validator.validate(jwt);
+        if (resultado.hasErrors()) {
+            cache.invalidate(chave);
+            String descricao = resultado.getErrors().stream()
+                    .map(OAuth2Error::getDescription)
+                    .collect(Collectors.joining("; "));
+            throw new JwtValidationException("Token JWT inválido: " + descricao, resultado.getErrors());
+        }
+        return jwt;
+    }
+
+    private static String chave(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static final class ExpiraComOToken implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String chave, Jwt jwt, long tempoAtual) {
+            Instant expiraEm = jwt.getExpiresAt();
+            if (expiraEm == null) {
+                return 0L;
+            }
+            return Math.max(0L, Duration.between(Instant.now(), expiraEm).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, Jwt jwt, long tempoAtual, long duracaoAtual) {
+            return expireAfterCreate(chave, jwt, tempoAtual);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, Jwt jwt, long tempoAtual, long duracaoAtual) {
+            return duracaoAtual;
+        }
+    }
+}
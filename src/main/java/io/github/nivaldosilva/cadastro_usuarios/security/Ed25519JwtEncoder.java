@@ -0,0 +1,80 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Assina JWTs com EdDSA (Ed25519). O {@code NimbusJwtEncoder} não seleciona chaves OKP, por isso a assinatura
+ * é feita diretamente com o {@link Ed25519Signer} do Nimbus.
+ */
+final class Ed25519JwtEncoder implements JwtEncoder {
+
+    private final String keyId;
+    private final Ed25519Signer signer;
+
+    Ed25519JwtEncoder(OctetKeyPair chave) {
+        try {
+            this.signer = new Ed25519Signer(chave);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Chave Ed25519 inválida: " + e.getMessage(), e);
+        }
+        this.keyId = chave.getKeyID();
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parametros) {
+        JwsHeader cabecalho = parametros.getJwsHeader();
+        if (cabecalho != null && !JWSAlgorithm.EdDSA.getName().equals(cabecalho.getAlgorithm().getName())) {
+            throw new JwtEncodingException("Algoritmo não suportado por esta chave: "
+                    + cabecalho.getAlgorithm().getName());
+        }
+        String kid = cabecalho != null && cabecalho.getKeyId() != null ? cabecalho.getKeyId() : keyId;
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.EdDSA)
+                .type(JOSEObjectType.JWT)
+                .keyID(kid)
+                .build();
+
+        JwtClaimsSet claims = parametros.getClaims();
+        SignedJWT jwt = new SignedJWT(header, converter(claims.getClaims()));
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Falha ao assinar o JWT: " + e.getMessage(), e);
+        }
+
+        return Jwt.withTokenValue(jwt.serialize())
+                .headers(h -> h.putAll(header.toJSONObject()))
+                .claims(c -> c.putAll(claims.getClaims()))
+                .build();
+    }
+
+    private static JWTClaimsSet converter(Map<String, Object> claims) {
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder();
+        claims.forEach((nome, valor) -> {
+            if (valor instanceof Instant instante) {
+                builder.claim(nome, Date.from(instante));
+            } else if (valor instanceof URL url) {
+                builder.claim(nome, url.toExternalForm());
+            } else {
+                builder.claim(nome, valor);
+            }
+        });
+        return builder.build();
+    }
+}
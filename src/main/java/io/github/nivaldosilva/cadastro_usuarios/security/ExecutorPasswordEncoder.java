@@ -0,0 +1,26 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ExecutorPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final SenhaHashExecutor senhaHashExecutor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return senhaHashExecutor.executar(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return senhaHashExecutor.executar(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * IP do cliente usado como chave do limite de login. {@code X-Forwarded-For} só é considerado quando a conexão vem
+ * de um proxy listado em {@code login.limite.proxies-confiaveis} (IPs ou CIDRs); nesse caso o cabeçalho é lido da
+ * direita para a esquerda e o primeiro endereço fora da lista é o cliente. Sem proxies configurados, vale o
+ * endereço da conexão, e um cliente não consegue escolher a própria chave forjando o cabeçalho.
+ */
+@Component
+public class IpCliente {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String OCTETO = "(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)";
+    private static final Pattern IPV4 = Pattern.compile(OCTETO + "(\\." + OCTETO + "){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> proxiesConfiaveis;
+
+    public IpCliente(@Value("${login.limite.proxies-confiaveis:}") List<String> proxiesConfiaveis) {
+        this.proxiesConfiaveis = proxiesConfiaveis.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolver(HttpServletRequest request) {
+        String cliente = request.getRemoteAddr();
+        if (!confiavel(cliente)) {
+            return cliente;
+        }
+
+        String encaminhado = request.getHeader(X_FORWARDED_FOR);
+        if (encaminhado == null) {
+            return cliente;
+        }
+        String[] saltos = encaminhado.split(",");
+        for (int i = saltos.length - 1; i >= 0; i--) {
+            String salto = saltos[i].trim();
+            if (!ehIp(salto)) {
+                return cliente;
+            }
+            cliente = salto;
+            if (!confiavel(salto)) {
+                return cliente;
+            }
+        }
+        return cliente;
+    }
+
+    private boolean confiavel(String endereco) {
+        if (!ehIp(endereco)) {
+            return false;
+        }
+        try {
+            return proxiesConfiaveis.stream().anyMatch(proxy -> proxy.matches(endereco));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Evita que IpAddressMatcher tente resolver um nome vindo do cabeçalho
+    private static boolean ehIp(String endereco) {
+        return endereco != null && (IPV4.matcher(endereco).matches() || IPV6.matcher(endereco).matches());
+    }
+}
@@ -10,10 +10,14 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioCache;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioSnapshot;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.request.LoginRequest;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.LoginResponse;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
-import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.github.nivaldosilva.cadastro_usuarios.logging.AmostragemTurboFilter;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.ServicoSobrecarregadoException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,27 +28,17 @@ public class JwtAuthenticationService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService tokenGenerator;
-    private final UsuarioRepository usuarioRepository;
+    private final UsuarioCache usuarioCache;
     private final JwtDecoder jwtDecoder;
 
     public LoginResponse autenticarUsuario(LoginRequest loginRequest) {
-        String email = loginRequest.getEmail().toLowerCase().trim();
+        String email = UsuarioMapper.normalizarEmail(loginRequest.getEmail());
 
         try {
-            Usuario usuario = usuarioRepository.findByEmail(email)
-                    .orElseThrow(() -> new BadCredentialsException("Email ou senha inválidos"));
-            if (!usuario.isEnabled()) {
-                log.warn("Tentativa de login de conta desativada: {}", email);
-                throw new DisabledException("Conta desativada");
-            }
-            if (!usuario.isAccountNonLocked()) {
-                log.warn("Tentativa de login de conta bloqueada: {}", email);
-                throw new LockedException("Conta bloqueada");
-            }
-
             Authentication authenticationToken = new UsernamePasswordAuthenticationToken(email,loginRequest.getSenha());
             Authentication authentication = authenticationManager.authenticate(authenticationToken);
-            log.info("Login realizado com sucesso para usuário: {} com roles: {}",email, usuario.getRoles());
+            log.info(AmostragemTurboFilter.AMOSTRADO, "Login realizado com sucesso para usuário: {} com roles: {}",
+                    email, authentication.getAuthorities());
 
             return tokenGenerator.generateTokens(authentication);
 
@@ -54,6 +48,9 @@ public class JwtAuthenticationService {
         } catch (DisabledException | LockedException e) {
             log.warn("Conta com restrições tentou fazer login: {} - {}", email, e.getMessage());
             throw e;
+        } catch (ServicoSobrecarregadoException e) {
+            log.warn("Login recusado por sobrecarga: {}", email);
+            throw e;
         } catch (Exception e) {
             log.error("Erro inesperado na autenticao para usuario: {}", email, e);
             throw new BadCredentialsException("Erro interno. Tente novamente mais tarde.");
@@ -70,7 +67,8 @@ public class JwtAuthenticationService {
                 throw new BadCredentialsException("Token de refresh inválido");
             }
             String email = jwt.getSubject();
-            Usuario usuario = usuarioRepository.findByEmail(email)
+            Usuario usuario = usuarioCache.buscarPorEmail(email)
+                    .map(UsuarioSnapshot::paraUsuario)
                     .orElseThrow(() -> new UsernameNotFoundException("Usuario do token não encontrado: " + email));
             if (!usuario.isEnabled())
                 throw new DisabledException("Conta desativada");
@@ -78,7 +76,7 @@ public class JwtAuthenticationService {
                 throw new LockedException("Conta bloqueada");
             Authentication newAuth = new UsernamePasswordAuthenticationToken(usuario, null,usuario.getAuthorities() 
             );
-            log.info("Token de acesso renovado para o usuario: {}", email);
+            log.info(AmostragemTurboFilter.AMOSTRADO, "Token de acesso renovado para o usuario: {}", email);
             
             return tokenGenerator.generateAccessToken(newAuth);
             
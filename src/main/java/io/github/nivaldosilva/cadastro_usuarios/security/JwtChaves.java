@@ -0,0 +1,141 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Chave de assinatura dos JWTs e conjunto de chaves públicas aceitas na verificação, indexadas pelo {@code kid}.
+ * Manter as chaves antigas no JWK Set permite trocar a chave de assinatura sem invalidar tokens já emitidos.
+ */
+public final class JwtChaves {
+
+    private static final JwsAlgorithm EDDSA = () -> JWSAlgorithm.EdDSA.getName();
+
+    private final JWSAlgorithm algoritmo;
+    private final JWK chaveAssinatura;
+    private final JWKSet chavesVerificacao;
+
+    private JwtChaves(JWSAlgorithm algoritmo, JWK chaveAssinatura, JWKSet chavesVerificacao) {
+        this.algoritmo = algoritmo;
+        this.chaveAssinatura = chaveAssinatura;
+        this.chavesVerificacao = chavesVerificacao;
+    }
+
+    public static JwtChaves dePem(RSAPublicKey publicKey, RSAPrivateKey privateKey, String keyId, String algoritmo) {
+        if (!JWSAlgorithm.RS256.getName().equals(algoritmo)) {
+            throw new IllegalStateException(
+                    "As chaves PEM suportam apenas RS256; configure jwt.jwk-set para usar " + algoritmo);
+        }
+        RSAKey chave = new RSAKey.Builder(publicKey)
+                .privateKey(privateKey)
+                .keyID(keyId)
+                .build();
+        return new JwtChaves(JWSAlgorithm.RS256, chave, new JWKSet(chave.toPublicJWK()));
+    }
+
+    public static JwtChaves deJwkSet(String json, String keyId, String algoritmo) {
+        JWKSet jwkSet;
+        try {
+            jwkSet = JWKSet.parse(json);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JWK Set inválido: " + e.getMessage(), e);
+        }
+
+        JWK chave = jwkSet.getKeyByKeyId(keyId);
+        if (chave == null || !chave.isPrivate()) {
+            throw new IllegalStateException("Chave privada de assinatura não encontrada no JWK Set: " + keyId);
+        }
+
+        JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algoritmo);
+        if (!compativel(chave, jwsAlgorithm)) {
+            throw new IllegalStateException("A chave " + keyId + " não é compatível com o algoritmo " + algoritmo);
+        }
+        return new JwtChaves(jwsAlgorithm, chave, jwkSet.toPublicJWKSet());
+    }
+
+    public JwsAlgorithm algoritmoJws() {
+        return JWSAlgorithm.EdDSA.equals(algoritmo) ? EDDSA : SignatureAlgorithm.from(algoritmo.getName());
+    }
+
+    public String keyId() {
+        return chaveAssinatura.getKeyID();
+    }
+
+    public JWKSource<SecurityContext> fonteAssinatura() {
+        return new ImmutableJWKSet<>(new JWKSet(chaveAssinatura));
+    }
+
+    public JwtEncoder encoder() {
+        if (chaveAssinatura instanceof OctetKeyPair okp) {
+            return new Ed25519JwtEncoder(okp);
+        }
+        return new NimbusJwtEncoder(fonteAssinatura());
+    }
+
+    public JWKSource<SecurityContext> fonteVerificacao() {
+        return new ImmutableJWKSet<>(chavesVerificacao);
+    }
+
+    public NimbusJwtDecoder decoder(OAuth2TokenValidator<Jwt> validator) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algoritmosAceitos(), fonteVerificacao()));
+        // Expiração e demais claims são validadas pelo OAuth2TokenValidator
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(validator);
+        return decoder;
+    }
+
+    public Set<JWSAlgorithm> algoritmosAceitos() {
+        Set<JWSAlgorithm> algoritmos = new LinkedHashSet<>();
+        for (JWK chave : chavesVerificacao.getKeys()) {
+            if (chave.getAlgorithm() != null) {
+                algoritmos.add(JWSAlgorithm.parse(chave.getAlgorithm().getName()));
+            } else if (chave instanceof RSAKey) {
+                algoritmos.add(JWSAlgorithm.RS256);
+            } else if (chave instanceof ECKey ec && Curve.P_256.equals(ec.getCurve())) {
+                algoritmos.add(JWSAlgorithm.ES256);
+            } else if (chave instanceof OctetKeyPair okp && Curve.Ed25519.equals(okp.getCurve())) {
+                algoritmos.add(JWSAlgorithm.EdDSA);
+            }
+        }
+        return algoritmos;
+    }
+
+    private static boolean compativel(JWK chave, JWSAlgorithm algoritmo) {
+        if (JWSAlgorithm.RS256.equals(algoritmo)) {
+            return chave instanceof RSAKey;
+        }
+        if (JWSAlgorithm.ES256.equals(algoritmo)) {
+            return chave instanceof ECKey ec && Curve.P_256.equals(ec.getCurve());
+        }
+        if (JWSAlgorithm.EdDSA.equals(algoritmo)) {
+            return chave instanceof OctetKeyPair okp && Curve.Ed25519.equals(okp.getCurve());
+        }
+        return false;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.stereotype.Service;
 import io.github.nivaldosilva.cadastro_usuarios.controllers.response.LoginResponse;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
@@ -20,6 +21,7 @@ import org.springframework.beans.factory.annotation.Value;
 public class JwtTokenService {
 
     private final JwtEncoder jwtEncoder;
+    private final JwtChaves jwtChaves;
 
     @Value("${jwt.expiration.seconds:3600}")
     private Long jwtExpirationSeconds;
@@ -90,7 +92,7 @@ public class JwtTokenService {
         }
         JwtClaimsSet claims = claimsBuilder.build();
         log.debug("Gerando access token para: {} com scopes: {}", authentication.getName(), scope);
-        return this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return this.jwtEncoder.encode(JwtEncoderParameters.from(cabecalho(), claims)).getTokenValue();
     }
 
     private String generateRefreshTokenString(Authentication authentication) {
@@ -108,6 +110,12 @@ public class JwtTokenService {
 
         log.debug("Gerando refresh token para: {}", authentication.getName());
 
-        return this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return this.jwtEncoder.encode(JwtEncoderParameters.from(cabecalho(), claims)).getTokenValue();
     }
-}
\ No newline at end of file
+
+    private JwsHeader cabecalho() {
+        return JwsHeader.with(jwtChaves.algoritmoJws())
+                .keyId(jwtChaves.keyId())
+                .build();
+    }
+}
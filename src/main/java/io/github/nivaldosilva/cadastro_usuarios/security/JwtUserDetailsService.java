@@ -1,9 +1,13 @@
 package io.github.nivaldosilva.cadastro_usuarios.security;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioCache;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioSnapshot;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
 import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,15 +16,17 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class JwtUserDetailsService implements UserDetailsService {
+public class JwtUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioRepository usuarioRepository;
+    private final UsuarioCache usuarioCache;
 
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    public Usuario loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("Carregando usuario por email: {}", email);
         
-        Usuario usuario = usuarioRepository.findByEmail(email)
+        Usuario usuario = usuarioCache.buscarPorEmail(email)
+                .map(UsuarioSnapshot::paraUsuario)
                 .orElseThrow(() -> {
                     log.warn("Tentativa de login com email nao encontrado: {}", email);
                     return new UsernameNotFoundException("Usuario nao encontrado: " + email);
@@ -31,4 +37,17 @@ public class JwtUserDetailsService implements UserDetailsService {
        
         return usuario;
     }
+
+    @Override
+    @Transactional
+    public Usuario updatePassword(UserDetails user, String newPassword) {
+        Usuario usuario = usuarioRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuario nao encontrado: " + user.getUsername()));
+
+        usuario.setSenha(newPassword);
+        usuarioCache.invalidar(usuario.getEmail());
+        log.info("Hash de senha atualizado para a forca atual do BCrypt: {}", usuario.getEmail());
+
+        return usuarioRepository.save(usuario);
+    }
 }
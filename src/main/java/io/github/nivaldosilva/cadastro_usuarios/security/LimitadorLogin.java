@@ -0,0 +1,127 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.LimiteTentativasExcedidoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limita tentativas de login por IP e por email antes de qualquer consulta ao banco ou verificação BCrypt. Cada
+ * chave é um balde GCRA guardado num único {@link AtomicLong} (instante teórico da próxima chegada), atualizado por
+ * CAS. Os caches são limitados em tamanho e descartam chaves ociosas.
+ */
+@Component
+public class LimitadorLogin {
+
+    private final boolean habilitado;
+    private final Limite porIp;
+    private final Limite porEmail;
+    private final LongSupplier relogio;
+
+    private final Counter permitidos;
+    private final Counter bloqueadosPorIp;
+    private final Counter bloqueadosPorEmail;
+
+    @Autowired
+    public LimitadorLogin(
+            MeterRegistry meterRegistry,
+            @Value("${login.limite.habilitado:true}") boolean habilitado,
+            @Value("${login.limite.ip.por-minuto:30}") int ipPorMinuto,
+            @Value("${login.limite.ip.rajada:20}") int ipRajada,
+            @Value("${login.limite.email.por-minuto:5}") int emailPorMinuto,
+            @Value("${login.limite.email.rajada:5}") int emailRajada,
+            @Value("${login.limite.maximo-chaves:100000}") long maximoChaves,
+            @Value("${login.limite.ociosidade:10m}") Duration ociosidade) {
+        this(meterRegistry, habilitado, ipPorMinuto, ipRajada, emailPorMinuto, emailRajada, maximoChaves, ociosidade,
+                System::nanoTime);
+    }
+
+    LimitadorLogin(MeterRegistry meterRegistry, boolean habilitado, int ipPorMinuto, int ipRajada,
+                   int emailPorMinuto, int emailRajada, long maximoChaves, Duration ociosidade,
+                   LongSupplier relogio) {
+        this.habilitado = habilitado;
+        this.porIp = new Limite(ipPorMinuto, ipRajada, maximoChaves, ociosidade);
+        this.porEmail = new Limite(emailPorMinuto, emailRajada, maximoChaves, ociosidade);
+        this.relogio = relogio;
+
+        this.permitidos = tentativas("permitido", "todas", meterRegistry);
+        this.bloqueadosPorIp = tentativas("bloqueado", "ip", meterRegistry);
+        this.bloqueadosPorEmail = tentativas("bloqueado", "email", meterRegistry);
+    }
+
+    /**
+     * Consome uma tentativa do IP e do email (já normalizado) ou lança {@link LimiteTentativasExcedidoException}
+     * com o tempo de espera até a próxima tentativa aceita.
+     */
+    public void verificar(String ip, String email) {
+        if (!habilitado) {
+            return;
+        }
+        long agora = relogio.getAsLong();
+
+        long esperaIp = porIp.consumir(ip, agora);
+        if (esperaIp > 0) {
+            bloqueadosPorIp.increment();
+            throw new LimiteTentativasExcedidoException("Muitas tentativas de login deste endereço", segundos(esperaIp));
+        }
+        long esperaEmail = porEmail.consumir(email, agora);
+        if (esperaEmail > 0) {
+            bloqueadosPorEmail.increment();
+            throw new LimiteTentativasExcedidoException("Muitas tentativas de login para este email", segundos(esperaEmail));
+        }
+        permitidos.increment();
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter tentativas(String resultado, String chave, MeterRegistry meterRegistry) {
+        return Counter.builder("login.limite")
+                .description("Tentativas de login avaliadas pelo limitador")
+                .tag("resultado", resultado)
+                .tag("chave", chave)
+                .register(meterRegistry);
+    }
+
+    private static final class Limite {
+
+        // Intervalo entre tentativas em regime e folga acumulável para rajadas
+        private final long intervalo;
+        private final long tolerancia;
+        private final Cache<String, AtomicLong> baldes;
+
+        Limite(int porMinuto, int rajada, long maximoChaves, Duration ociosidade) {
+            this.intervalo = TimeUnit.MINUTES.toNanos(1) / porMinuto;
+            this.tolerancia = intervalo * (rajada - 1);
+            this.baldes = Caffeine.newBuilder()
+                    .maximumSize(maximoChaves)
+                    .expireAfterAccess(ociosidade)
+                    .build();
+        }
+
+        // Retorna 0 se a tentativa foi aceita ou a espera em nanos até a próxima aceita
+        long consumir(String chave, long agora) {
+            AtomicLong proximaChegada = baldes.get(chave == null ? "" : chave, nova -> new AtomicLong(agora));
+            while (true) {
+                long atual = proximaChegada.get();
+                long base = atual - agora > 0 ? atual : agora;
+                long adiantamento = base - agora;
+                if (adiantamento > tolerancia) {
+                    return adiantamento - tolerancia;
+                }
+                if (proximaChegada.compareAndSet(atual, base + intervalo)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
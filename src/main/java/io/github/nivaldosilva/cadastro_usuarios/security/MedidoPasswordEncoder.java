@@ -0,0 +1,40 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class MedidoPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer tempoEncode;
+    private final Timer tempoMatches;
+
+    public MedidoPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.tempoEncode = timer("encode", meterRegistry);
+        this.tempoMatches = timer("matches", meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return tempoEncode.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return tempoMatches.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(String operacao, MeterRegistry meterRegistry) {
+        return Timer.builder("senha.bcrypt")
+                .description("Tempo de CPU do hash/verificação BCrypt, sem a espera na fila")
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class SenhaHashExecutor implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> EM_THREAD_DE_HASH = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ThreadPoolExecutor executor;
+    private final int tamanho;
+    private final long timeoutMillis;
+    private final AtomicLong latenciaMediaNanos = new AtomicLong();
+    private final Timer tempoEspera;
+    private final Counter rejeicoes;
+
+    public SenhaHashExecutor(
+            @Value("${senha.hash.threads:0}") int threads,
+            @Value("${senha.hash.capacidade-fila:500}") int capacidadeFila,
+            @Value("${senha.hash.timeout-ms:5000}") long timeoutMillis,
+            MeterRegistry meterRegistry) {
+
+        this.tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                tamanho,
+                tamanho,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                new CustomizableThreadFactory("senha-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        this.tempoEspera = Timer.builder("senha.hash.espera")
+                .description("Tempo de espera na fila antes do hash/verificação de senha")
+                .register(meterRegistry);
+        this.rejeicoes = Counter.builder("senha.hash.rejeicoes")
+                .description("Tarefas de senha rejeitadas por fila cheia ou espera projetada/excedida acima do timeout")
+                .register(meterRegistry);
+        Gauge.builder("senha.hash.fila", executor, pool -> pool.getQueue().size())
+                .description("Tarefas de senha aguardando na fila")
+                .register(meterRegistry);
+        Gauge.builder("senha.hash.ativas", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads de hash de senha em execução")
+                .register(meterRegistry);
+
+        log.info("Executor de hash de senhas iniciado com {} threads e fila de {}", tamanho, capacidadeFila);
+    }
+
+    public <T> T executar(Supplier<T> tarefa) {
+        if (EM_THREAD_DE_HASH.get()) {
+            return tarefa.get();
+        }
+
+        // Quem não seria atendido dentro do timeout é recusado já, em vez de ocupar a fila e falhar depois
+        long esperaProjetadaMillis = TimeUnit.NANOSECONDS.toMillis(
+                (executor.getQueue().size() / tamanho + 1) * latenciaMediaNanos.get());
+        if (esperaProjetadaMillis > timeoutMillis) {
+            rejeicoes.increment();
+            throw new ServicoSobrecarregadoException("Serviço sobrecarregado. Tente novamente em instantes.");
+        }
+
+        CompletableFuture<T> futuro = submeter(tarefa);
+        try {
+            return futuro.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(false);
+            rejeicoes.increment();
+            throw new ServicoSobrecarregadoException("Tempo de espera para processamento de senha excedido");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(false);
+            throw new ServicoSobrecarregadoException("Processamento de senha interrompido");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Sem verificação de espera: o registro em lote aguarda sem timeout e só é limitado pela capacidade da fila.
+    // Um futuro cancelado sai da fila na hora; se já estiver rodando, termina
+    public <T> CompletableFuture<T> submeter(Supplier<T> tarefa) {
+        long enfileiradoEm = System.nanoTime();
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        Runnable execucao = () -> {
+            if (futuro.isDone()) {
+                return;
+            }
+            long inicio = System.nanoTime();
+            tempoEspera.record(inicio - enfileiradoEm, TimeUnit.NANOSECONDS);
+            EM_THREAD_DE_HASH.set(Boolean.TRUE);
+            try {
+                futuro.complete(tarefa.get());
+            } catch (Throwable e) {
+                futuro.completeExceptionally(e);
+            } finally {
+                registrarLatencia(System.nanoTime() - inicio);
+            }
+        };
+
+        try {
+            executor.execute(execucao);
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            throw new ServicoSobrecarregadoException("Serviço sobrecarregado. Tente novamente em instantes.");
+        }
+        futuro.whenComplete((resultado, erro) -> {
+            if (futuro.isCancelled()) {
+                executor.remove(execucao);
+            }
+        });
+        return futuro;
+    }
+
+    // Média móvel exponencial do tempo de cada hash, usada para projetar a espera de quem chega
+    private void registrarLatencia(long nanos) {
+        latenciaMediaNanos.accumulateAndGet(nanos, (media, nova) -> media == 0 ? nova : media + (nova - media) / 5);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
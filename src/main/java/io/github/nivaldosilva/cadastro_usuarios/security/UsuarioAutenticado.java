@@ -0,0 +1,41 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+
+public record UsuarioAutenticado(
+
+        UUID id,
+        String email,
+        Set<String> scopes
+
+) implements AuthenticatedPrincipal {
+
+    public static UsuarioAutenticado de(Jwt jwt) {
+        String userId = jwt.getClaimAsString("user_id");
+        String scope = jwt.getClaimAsString("scope");
+
+        Set<String> scopes = scope == null || scope.isBlank()
+                ? Set.of()
+                : Arrays.stream(scope.split(" ")).collect(Collectors.toUnmodifiableSet());
+
+        return new UsuarioAutenticado(
+                userId != null ? UUID.fromString(userId) : null,
+                jwt.getSubject(),
+                scopes);
+    }
+
+    public boolean isAdmin() {
+        return scopes.contains(Role.ADMIN.name());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
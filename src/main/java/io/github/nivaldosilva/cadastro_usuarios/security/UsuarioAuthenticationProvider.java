@@ -0,0 +1,77 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UsuarioAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String SENHA_FICTICIA = "senha-ficticia-para-tempo-constante";
+
+    private final JwtUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+
+    private volatile String hashFicticio;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String email = authentication.getName();
+        String senha = authentication.getCredentials() != null ? authentication.getCredentials().toString() : "";
+
+        Usuario usuario;
+        try {
+            usuario = userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            // Gasta o mesmo BCrypt de um usuário existente para não revelar quais emails estão cadastrados
+            passwordEncoder.matches(senha, hashFicticio());
+            throw new BadCredentialsException("Email ou senha inválidos");
+        }
+
+        if (!usuario.isEnabled()) {
+            log.warn("Tentativa de login de conta desativada: {}", email);
+            throw new DisabledException("Conta desativada");
+        }
+        if (!usuario.isAccountNonLocked()) {
+            log.warn("Tentativa de login de conta bloqueada: {}", email);
+            throw new LockedException("Conta bloqueada");
+        }
+        if (!passwordEncoder.matches(senha, usuario.getPassword())) {
+            throw new BadCredentialsException("Email ou senha inválidos");
+        }
+        if (!usuario.isCredentialsNonExpired()) {
+            throw new CredentialsExpiredException("Credenciais expiradas");
+        }
+
+        if (passwordEncoder.upgradeEncoding(usuario.getPassword())) {
+            usuario = userDetailsService.updatePassword(usuario, passwordEncoder.encode(senha));
+        }
+
+        return UsernamePasswordAuthenticationToken.authenticated(usuario, null, usuario.getAuthorities());
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private String hashFicticio() {
+        if (hashFicticio == null) {
+            hashFicticio = passwordEncoder.encode(SENHA_FICTICIA);
+        }
+        return hashFicticio;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.nivaldosilva.cadastro_usuarios.service;
+
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.CursorAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.AuditoriaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.PaginaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.repository.AuditoriaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AuditoriaService {
+
+    private final AuditoriaRepository auditoriaRepository;
+
+    @Value("${usuarios.paginacao.tamanho-maximo:200}")
+    private int tamanhoMaximoPagina;
+
+    @Transactional(readOnly = true)
+    public PaginaResponse<AuditoriaResponse> consultarPagina(UUID alvoId, UUID atorId, TipoEventoAuditoria tipo,
+            String cursor, int tamanho) {
+        int tamanhoPagina = Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+
+        List<AuditoriaResponse> eventos = auditoriaRepository.consultar(alvoId, atorId, tipo,
+                cursor != null ? CursorAuditoria.de(cursor) : null, tamanhoPagina + 1);
+
+        boolean possuiProxima = eventos.size() > tamanhoPagina;
+        List<AuditoriaResponse> pagina = possuiProxima ? eventos.subList(0, tamanhoPagina) : eventos;
+        String proximoCursor = possuiProxima ? CursorAuditoria.doEvento(pagina.get(pagina.size() - 1)).toString() : null;
+
+        return PaginaResponse.<AuditoriaResponse>builder()
+                .conteudo(pagina)
+                .tamanho(pagina.size())
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+}
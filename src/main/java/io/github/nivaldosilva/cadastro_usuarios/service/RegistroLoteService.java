@@ -0,0 +1,218 @@
+package io.github.nivaldosilva.cadastro_usuarios.service;
+
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.Auditoria;
+import io.github.nivaldosilva.cadastro_usuarios.cache.FiltroEmails;
+import io.github.nivaldosilva.cadastro_usuarios.cep.CompletadorLocalidade;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.ItemLoteResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.RegistroLoteResponse;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.CepInconsistenteException;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.ServicoSobrecarregadoException;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.github.nivaldosilva.cadastro_usuarios.security.SenhaHashExecutor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistroLoteService {
+
+    private static final int TAMANHO_LOTE_INSERCAO = 100;
+
+    private final UsuarioRepository usuarioRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SenhaHashExecutor senhaHashExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final FiltroEmails filtroEmails;
+    private final CompletadorLocalidade completadorLocalidade;
+    private final Auditoria auditoria;
+
+    public RegistroLoteResponse registrarLote(List<RegistroUsuarioRequest> requests) {
+        ItemLoteResponse[] resultados = new ItemLoteResponse[requests.size()];
+        Map<String, Candidato> candidatosPorEmail = new LinkedHashMap<>();
+
+        for (int indice = 0; indice < requests.size(); indice++) {
+            RegistroUsuarioRequest request = requests.get(indice);
+            String erro = validar(request);
+            if (erro == null) {
+                erro = conferirLocalidade(request);
+            }
+            if (erro != null) {
+                resultados[indice] = falha(indice, request != null ? request.email() : null, erro);
+                continue;
+            }
+
+            String email = UsuarioMapper.normalizarEmail(request.email());
+            if (candidatosPorEmail.containsKey(email)) {
+                resultados[indice] = falha(indice, email, "Email repetido no lote");
+                continue;
+            }
+            candidatosPorEmail.put(email, new Candidato(indice, email, request, null));
+        }
+
+        List<String> suspeitos = candidatosPorEmail.keySet().stream().filter(filtroEmails::talvezCadastrado).toList();
+        if (!suspeitos.isEmpty()) {
+            Set<String> existentes = usuarioRepository.findEmailsExistentes(suspeitos);
+            existentes.forEach(email -> {
+                Candidato candidato = candidatosPorEmail.remove(email);
+                resultados[candidato.indice()] = falha(candidato.indice(), email, "Email já cadastrado");
+            });
+        }
+
+        List<Candidato> candidatos = new ArrayList<>(candidatosPorEmail.values());
+        for (int inicio = 0; inicio < candidatos.size(); inicio += TAMANHO_LOTE_INSERCAO) {
+            List<Candidato> lote = candidatos.subList(inicio, Math.min(inicio + TAMANHO_LOTE_INSERCAO, candidatos.size()));
+            persistirLote(lote, resultados);
+        }
+
+        List<ItemLoteResponse> itens = Arrays.asList(resultados);
+        int sucessos = (int) itens.stream().filter(ItemLoteResponse::sucesso).count();
+        log.info("Registro em lote concluído: {} de {} usuários criados", sucessos, itens.size());
+
+        return RegistroLoteResponse.builder()
+                .total(itens.size())
+                .sucessos(sucessos)
+                .falhas(itens.size() - sucessos)
+                .itens(itens)
+                .build();
+    }
+
+    private void persistirLote(List<Candidato> lote, ItemLoteResponse[] resultados) {
+        List<CompletableFuture<String>> hashes = lote.stream().map(this::submeterHash).toList();
+
+        List<Candidato> prontos = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            Candidato candidato = lote.get(i);
+            try {
+                prontos.add(candidato.comHash(hashes.get(i).join()));
+            } catch (CompletionException e) {
+                String erro = e.getCause() instanceof ServicoSobrecarregadoException
+                        ? "Serviço sobrecarregado, tente novamente"
+                        : "Erro ao processar senha";
+                log.warn("Falha ao gerar hash de senha para {}: {}", candidato.email(), e.getCause().getMessage());
+                resultados[candidato.indice()] = falha(candidato.indice(), candidato.email(), erro);
+            }
+        }
+
+        try {
+            List<Usuario> salvos = transactionTemplate.execute(status -> {
+                List<Usuario> novos = usuarioRepository.saveAll(prontos.stream().map(this::criarUsuario).toList());
+                auditoria.registrar(novos.stream()
+                        .map(novo -> auditoria.evento(
+                                TipoEventoAuditoria.USUARIO_REGISTRADO, novo.getId(), novo.getEmail()))
+                        .toList());
+                return novos;
+            });
+            for (int i = 0; i < prontos.size(); i++) {
+                filtroEmails.adicionar(prontos.get(i).email());
+                resultados[prontos.get(i).indice()] = sucesso(prontos.get(i), salvos.get(i));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao inserir lote de {} usuários, repetindo individualmente: {}", prontos.size(), e.getMessage());
+            prontos.forEach(candidato -> resultados[candidato.indice()] = persistirIndividualmente(candidato));
+        }
+    }
+
+    private CompletableFuture<String> submeterHash(Candidato candidato) {
+        try {
+            return senhaHashExecutor.submeter(() -> passwordEncoder.encode(candidato.request().senha()));
+        } catch (ServicoSobrecarregadoException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ItemLoteResponse persistirIndividualmente(Candidato candidato) {
+        try {
+            Usuario salvo = transactionTemplate.execute(status -> {
+                Usuario novo = usuarioRepository.save(criarUsuario(candidato));
+                auditoria.registrar(TipoEventoAuditoria.USUARIO_REGISTRADO, novo.getId(), novo.getEmail());
+                return novo;
+            });
+            filtroEmails.adicionar(candidato.email());
+            return sucesso(candidato, salvo);
+        } catch (DataIntegrityViolationException e) {
+            return falha(candidato.indice(), candidato.email(), "Email já cadastrado");
+        } catch (DataAccessException e) {
+            log.error("Erro ao inserir usuário {} do lote", candidato.email(), e);
+            return falha(candidato.indice(), candidato.email(), "Erro ao salvar usuário");
+        }
+    }
+
+    private Usuario criarUsuario(Candidato candidato) {
+        Usuario usuario = UsuarioMapper.toEntity(candidato.request());
+        usuario.setEmail(candidato.email());
+        usuario.setSenha(candidato.hash());
+        usuario.setAtivo(true);
+        completadorLocalidade.completar(usuario);
+        return usuario;
+    }
+
+    private String validar(RegistroUsuarioRequest request) {
+        if (request == null) {
+            return "Usuário não informado";
+        }
+        Set<ConstraintViolation<RegistroUsuarioRequest>> violacoes = validator.validate(request);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private String conferirLocalidade(RegistroUsuarioRequest request) {
+        try {
+            completadorLocalidade.completar(UsuarioMapper.toEntity(request));
+            return null;
+        } catch (CepInconsistenteException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static ItemLoteResponse sucesso(Candidato candidato, Usuario salvo) {
+        return ItemLoteResponse.builder()
+                .indice(candidato.indice())
+                .email(candidato.email())
+                .sucesso(true)
+                .id(salvo.getId())
+                .build();
+    }
+
+    private static ItemLoteResponse falha(int indice, String email, String erro) {
+        return ItemLoteResponse.builder()
+                .indice(indice)
+                .email(email)
+                .sucesso(false)
+                .erro(erro)
+                .build();
+    }
+
+    private record Candidato(int indice, String email, RegistroUsuarioRequest request, String hash) {
+
+        private Candidato comHash(String hash) {
+            return new Candidato(indice, email, request, hash);
+        }
+    }
+}
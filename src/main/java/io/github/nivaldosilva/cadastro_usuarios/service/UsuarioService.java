@@ -1,64 +1,140 @@
 package io.github.nivaldosilva.cadastro_usuarios.service;
 
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.Auditoria;
+import io.github.nivaldosilva.cadastro_usuarios.cache.FiltroEmails;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioCache;
+import io.github.nivaldosilva.cadastro_usuarios.cep.CompletadorLocalidade;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.PaginaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Telefone;
 import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
 import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
 import io.github.nivaldosilva.cadastro_usuarios.exceptions.EmailJaCadastradoException;
 import io.github.nivaldosilva.cadastro_usuarios.exceptions.UsuarioNaoEncontradoException;
+import io.github.nivaldosilva.cadastro_usuarios.logging.AmostragemTurboFilter;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
 import io.github.nivaldosilva.cadastro_usuarios.repository.EnderecoRepository;
 import io.github.nivaldosilva.cadastro_usuarios.repository.TelefoneRepository;
 import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAutenticado;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UsuarioService {
 
+    private static final int TAMANHO_LOTE_EXPORTACAO = 100;
+
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
     private final EnderecoRepository enderecoRepository;
     private final TelefoneRepository telefoneRepository;
+    private final EntityManager entityManager;
+    private final UsuarioCache usuarioCache;
+    private final FiltroEmails filtroEmails;
+    private final CompletadorLocalidade completadorLocalidade;
+    private final Auditoria auditoria;
+
+    @Value("${usuarios.paginacao.tamanho-maximo:200}")
+    private int tamanhoMaximoPagina;
 
     @Transactional
     public Usuario registrarUsuario(Usuario usuario) {
-        validarEmailUnico(usuario.getEmail());
-
+        usuario.setEmail(UsuarioMapper.normalizarEmail(usuario.getEmail()));
+        rejeitarEmailCadastrado(usuario.getEmail());
+        completadorLocalidade.completar(usuario);
         usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
         usuario.setRoles(Set.of(Role.USUARIO));
         usuario.setAtivo(true);
 
         Usuario salvo = usuarioRepository.save(usuario);
-        log.info("Usuário registrado: {}", salvo.getEmail());
+        filtroEmails.adicionar(salvo.getEmail());
+        auditoria.registrar(TipoEventoAuditoria.USUARIO_REGISTRADO, salvo.getId(), salvo.getEmail());
+        log.info(AmostragemTurboFilter.AMOSTRADO, "Usuário registrado: {}", salvo.getEmail());
 
         return salvo;
     }
 
     @Transactional
     public Usuario criarAdmin(Usuario usuario) {
-        validarEmailUnico(usuario.getEmail());
-
+        usuario.setEmail(UsuarioMapper.normalizarEmail(usuario.getEmail()));
+        rejeitarEmailCadastrado(usuario.getEmail());
+        completadorLocalidade.completar(usuario);
         usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
         usuario.setRoles(Set.of(Role.ADMIN, Role.USUARIO));
         usuario.setAtivo(true);
 
         Usuario salvo = usuarioRepository.save(usuario);
-        log.info("Administrador criado: {}", salvo.getEmail());
+        filtroEmails.adicionar(salvo.getEmail());
+        usuarioCache.invalidar(salvo.getEmail());
+        auditoria.registrar(TipoEventoAuditoria.ADMIN_CRIADO, salvo.getId(), salvo.getEmail());
+        log.info(AmostragemTurboFilter.AMOSTRADO, "Administrador criado: {}", salvo.getEmail());
 
         return salvo;
     }
 
     @Transactional(readOnly = true)
-    public List<Usuario> listarTodos() {
-        return usuarioRepository.findAll();
+    public PaginaResponse<UsuarioResponse> listarPagina(UUID cursor, int tamanho) {
+        int tamanhoPagina = Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+        return paginar(usuarioRepository.listarResponses(cursor, tamanhoPagina + 1), tamanhoPagina);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponse<UsuarioResponse> buscarPagina(BuscaUsuariosRequest filtro, UUID cursor, int tamanho) {
+        int tamanhoPagina = Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+        return paginar(usuarioRepository.buscarResponses(filtro, cursor, tamanhoPagina + 1), tamanhoPagina);
+    }
+
+    private PaginaResponse<UsuarioResponse> paginar(List<UsuarioResponse> usuarios, int tamanhoPagina) {
+        boolean possuiProxima = usuarios.size() > tamanhoPagina;
+        List<UsuarioResponse> pagina = possuiProxima ? usuarios.subList(0, tamanhoPagina) : usuarios;
+        String proximoCursor = possuiProxima ? pagina.get(pagina.size() - 1).id().toString() : null;
+
+        return PaginaResponse.<UsuarioResponse>builder()
+                .conteudo(pagina)
+                .tamanho(pagina.size())
+                .proximoCursor(proximoCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public UsuarioResponse buscarPerfil(UUID id) {
+        return usuarioRepository.buscarResponsePorId(id)
+                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarTodos(Consumer<UsuarioResponse> destino) {
+        try (Stream<Usuario> usuarios = usuarioRepository.streamAll()) {
+            List<Usuario> lote = new ArrayList<>(TAMANHO_LOTE_EXPORTACAO);
+            usuarios.forEach(usuario -> {
+                lote.add(usuario);
+                if (lote.size() == TAMANHO_LOTE_EXPORTACAO) {
+                    exportarLote(lote, destino);
+                }
+            });
+            exportarLote(lote, destino);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -72,38 +148,49 @@ public class UsuarioService {
         Usuario usuario = usuarioRepository.findByEmail(emailAutenticado)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
 
-        if (!usuario.getEmail().equals(usuarioAtualizado.getEmail())) {
-            validarEmailUnico(usuarioAtualizado.getEmail());
-            usuario.setEmail(usuarioAtualizado.getEmail());
+        usuarioCache.invalidar(usuario.getEmail());
+
+        String novoEmail = UsuarioMapper.normalizarEmail(usuarioAtualizado.getEmail());
+        if (!usuario.getEmail().equals(novoEmail)) {
+            usuario.setEmail(novoEmail);
+            usuarioCache.invalidar(novoEmail);
+            filtroEmails.adicionar(novoEmail);
+            filtroEmails.registrarRemocao();
         }
 
         usuario.setNome(usuarioAtualizado.getNome());
 
-        if (usuarioAtualizado.getSenha() != null && !usuarioAtualizado.getSenha().isBlank()) {
+        boolean senhaAlterada = usuarioAtualizado.getSenha() != null && !usuarioAtualizado.getSenha().isBlank();
+        if (senhaAlterada) {
             usuario.setSenha(passwordEncoder.encode(usuarioAtualizado.getSenha()));
         }
 
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        auditoria.registrar(TipoEventoAuditoria.PERFIL_ATUALIZADO, salvo.getId(),
+                senhaAlterada ? salvo.getEmail() + " (senha alterada)" : salvo.getEmail());
+
+        return salvo;
     }
 
     @Transactional
-    public Endereco cadastrarEndereco(String userEmail, Endereco endereco) {
-        Usuario usuario = usuarioRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
+    public Endereco cadastrarEndereco(UsuarioAutenticado autenticado, Endereco endereco) {
+        completadorLocalidade.completar(endereco);
+        endereco.setUsuario(referenciaDoAutenticado(autenticado));
 
-        endereco.setUsuario(usuario);
+        Endereco salvo = salvarDoAutenticado(() -> enderecoRepository.saveAndFlush(endereco));
+        auditoria.registrar(TipoEventoAuditoria.ENDERECO_CADASTRADO, autenticado.id(), "endereco " + salvo.getId());
 
-        return enderecoRepository.save(endereco);
+        return salvo;
     }
 
     @Transactional
-    public Telefone cadastrarTelefone(String userEmail, Telefone telefone) {
-        Usuario usuario = usuarioRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
+    public Telefone cadastrarTelefone(UsuarioAutenticado autenticado, Telefone telefone) {
+        telefone.setUsuario(referenciaDoAutenticado(autenticado));
 
-        telefone.setUsuario(usuario);
+        Telefone salvo = salvarDoAutenticado(() -> telefoneRepository.saveAndFlush(telefone));
+        auditoria.registrar(TipoEventoAuditoria.TELEFONE_CADASTRADO, autenticado.id(), "telefone " + salvo.getId());
 
-        return telefoneRepository.save(telefone);
+        return salvo;
     }
 
     @Transactional
@@ -112,21 +199,20 @@ public class UsuarioService {
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
 
         usuarioRepository.deleteById(id);
-        log.info("Usuário deletado: {}", usuario.getEmail());
+        usuarioCache.invalidar(usuario.getEmail());
+        filtroEmails.registrarRemocao();
+        auditoria.registrar(TipoEventoAuditoria.USUARIO_DELETADO, id, usuario.getEmail());
+        log.info(AmostragemTurboFilter.AMOSTRADO, "Usuário deletado: {}", usuario.getEmail());
     }
 
     @Transactional
-    public Endereco atualizarEndereco(String userEmail, UUID enderecoId, Endereco enderecoAtualizado) {
-        Usuario usuario = usuarioRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
-
-        Endereco endereco = enderecoRepository.findById(enderecoId)
+    public Endereco atualizarEndereco(UsuarioAutenticado autenticado, UUID enderecoId, Endereco enderecoAtualizado) {
+        Endereco endereco = (autenticado.isAdmin()
+                ? enderecoRepository.findById(enderecoId)
+                : enderecoRepository.findByIdAndUsuarioId(enderecoId, autenticado.id()))
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Endereço não encontrado"));
 
-        if (!isAdmin(userEmail) && !endereco.getUsuario().getId().equals(usuario.getId())) {
-            throw new RuntimeException("Você só pode atualizar seus próprios endereços");
-        }
-
+        completadorLocalidade.completar(enderecoAtualizado);
         endereco.setRua(enderecoAtualizado.getRua());
         endereco.setNumero(enderecoAtualizado.getNumero());
         endereco.setComplemento(enderecoAtualizado.getComplemento());
@@ -135,41 +221,72 @@ public class UsuarioService {
         endereco.setCep(enderecoAtualizado.getCep());
 
         Endereco atualizado = enderecoRepository.save(endereco);
-        log.info("Endereço {} atualizado por {}", enderecoId, userEmail);
+        auditoria.registrar(TipoEventoAuditoria.ENDERECO_ATUALIZADO, endereco.getUsuario().getId(),
+                "endereco " + enderecoId);
+        log.info(AmostragemTurboFilter.AMOSTRADO, "Endereço {} atualizado por {}", enderecoId, autenticado.email());
 
         return atualizado;
     }
 
     @Transactional
-    public Telefone atualizarTelefone(String userEmail, UUID telefoneId, Telefone telefoneAtualizado) {
-        Usuario usuario = usuarioRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
-
-        Telefone telefone = telefoneRepository.findById(telefoneId)
+    public Telefone atualizarTelefone(UsuarioAutenticado autenticado, UUID telefoneId, Telefone telefoneAtualizado) {
+        Telefone telefone = (autenticado.isAdmin()
+                ? telefoneRepository.findById(telefoneId)
+                : telefoneRepository.findByIdAndUsuarioId(telefoneId, autenticado.id()))
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Telefone não encontrado"));
 
-        if (!isAdmin(userEmail) && !telefone.getUsuario().getId().equals(usuario.getId())) {
-            throw new RuntimeException("Você só pode atualizar seus próprios telefones");
-        }
-
         telefone.setNumero(telefoneAtualizado.getNumero());
         telefone.setDdd(telefoneAtualizado.getDdd());
 
         Telefone atualizado = telefoneRepository.save(telefone);
-        log.info("Telefone {} atualizado por {}", telefoneId, userEmail);
+        auditoria.registrar(TipoEventoAuditoria.TELEFONE_ATUALIZADO, telefone.getUsuario().getId(),
+                "telefone " + telefoneId);
+        log.info(AmostragemTurboFilter.AMOSTRADO, "Telefone {} atualizado por {}", telefoneId, autenticado.email());
 
         return atualizado;
     }
 
-    private boolean isAdmin(String email) {
-        Usuario usuario = usuarioRepository.findByEmail(email)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Usuário não encontrado"));
-        return usuario.getRoles().contains(Role.ADMIN);
+    // Tokens emitidos antes da claim user_id não identificam o usuário
+    private Usuario referenciaDoAutenticado(UsuarioAutenticado autenticado) {
+        if (autenticado.id() == null) {
+            throw new UsuarioNaoEncontradoException("Token sem identificação do usuário, faça login novamente");
+        }
+        return usuarioRepository.getReferenceById(autenticado.id());
+    }
+
+    // A referência não consulta o banco: um usuário removido com token ainda válido só aparece na FK, no flush
+    private <T> T salvarDoAutenticado(Supplier<T> salvar) {
+        try {
+            return salvar.get();
+        } catch (DataIntegrityViolationException e) {
+            if (violouReferenciaUsuario(e)) {
+                throw new UsuarioNaoEncontradoException("Usuário não encontrado");
+            }
+            throw e;
+        }
     }
 
-    private void validarEmailUnico(String email) {
-        if (usuarioRepository.existsByEmail(email)) {
+    private static boolean violouReferenciaUsuario(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null) {
+                return violacao.getConstraintName().toLowerCase(Locale.ROOT).contains("usuario_id");
+            }
+        }
+        return false;
+    }
+
+    // O índice único continua sendo a garantia; a checagem só evita gastar o BCrypt com um email já usado
+    private void rejeitarEmailCadastrado(String email) {
+        if (filtroEmails.jaCadastrado(email)) {
             throw new EmailJaCadastradoException("Email já cadastrado");
         }
     }
+
+    private void exportarLote(List<Usuario> lote, Consumer<UsuarioResponse> destino) {
+        for (Usuario usuario : lote) {
+            destino.accept(UsuarioMapper.toResponse(usuario));
+            entityManager.detach(usuario);
+        }
+        lote.clear();
+    }
 }
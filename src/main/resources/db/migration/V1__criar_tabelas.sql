@@ -0,0 +1,40 @@
+CREATE TABLE usuarios (
+    id                    UUID         PRIMARY KEY,
+    nome                  VARCHAR(100) NOT NULL,
+    email                 VARCHAR(100) NOT NULL UNIQUE,
+    senha                 VARCHAR(255) NOT NULL,
+    ativo                 BOOLEAN,
+    conta_bloqueada       BOOLEAN,
+    credenciais_expiradas BOOLEAN,
+    data_criacao          TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE usuario_roles (
+    usuario_id UUID         NOT NULL REFERENCES usuarios (id),
+    role       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (usuario_id, role)
+);
+
+CREATE TABLE enderecos (
+    id           UUID         PRIMARY KEY,
+    rua          VARCHAR(255) NOT NULL,
+    numero       VARCHAR(10),
+    complemento  VARCHAR(100),
+    cidade       VARCHAR(150) NOT NULL,
+    estado       VARCHAR(2)   NOT NULL,
+    cep          VARCHAR(9)   NOT NULL,
+    usuario_id   UUID         NOT NULL REFERENCES usuarios (id),
+    data_criacao TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_enderecos_usuario_id ON enderecos (usuario_id);
+
+CREATE TABLE telefones (
+    id           UUID        PRIMARY KEY,
+    numero       VARCHAR(15) NOT NULL,
+    ddd          VARCHAR(3)  NOT NULL,
+    usuario_id   UUID        NOT NULL REFERENCES usuarios (id),
+    data_criacao TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_telefones_usuario_id ON telefones (usuario_id);
@@ -0,0 +1,4 @@
+-- Emails passam a ser gravados em minúsculas; a normalização falha se houver duplicados que diferem só na caixa
+UPDATE usuarios SET email = lower(trim(email)) WHERE email <> lower(trim(email));
+
+CREATE UNIQUE INDEX ux_usuarios_email_lower ON usuarios (lower(email));
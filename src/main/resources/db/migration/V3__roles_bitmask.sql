@@ -0,0 +1,16 @@
+-- Roles passam a ser um bitmask (1 << ordinal de Role) na própria tabela de usuários: ADMIN = 1, USUARIO = 2
+ALTER TABLE usuarios ADD COLUMN roles INTEGER NOT NULL DEFAULT 0;
+
+UPDATE usuarios u
+SET roles = r.mascara
+FROM (
+    SELECT usuario_id,
+           bit_or(CASE role WHEN 'ADMIN' THEN 1 WHEN 'USUARIO' THEN 2 ELSE 0 END) AS mascara
+    FROM usuario_roles
+    GROUP BY usuario_id
+) r
+WHERE r.usuario_id = u.id;
+
+ALTER TABLE usuarios ALTER COLUMN roles DROP DEFAULT;
+
+DROP TABLE usuario_roles;
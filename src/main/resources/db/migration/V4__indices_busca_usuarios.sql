@@ -0,0 +1,14 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Busca por prefixo do nome (lower(nome) LIKE 'abc%') como range scan na btree
+CREATE INDEX ix_usuarios_nome_prefixo ON usuarios (lower(nome) text_pattern_ops);
+
+-- Busca por trecho do nome (lower(nome) LIKE '%abc%')
+CREATE INDEX ix_usuarios_nome_trgm ON usuarios USING gin (lower(nome) gin_trgm_ops);
+
+-- Administradores e inativos são minoria: índices parciais pequenos, já ordenados pelo cursor
+CREATE INDEX ix_usuarios_admins ON usuarios (id) WHERE (roles & 1) <> 0;
+CREATE INDEX ix_usuarios_inativos ON usuarios (id) WHERE ativo IS NOT TRUE;
+
+-- Cobre o EXISTS da busca por estado/cidade sem visitar a tabela de endereços
+CREATE INDEX ix_enderecos_estado_cidade ON enderecos (upper(estado), lower(cidade), usuario_id);
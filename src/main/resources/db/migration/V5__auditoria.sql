@@ -0,0 +1,23 @@
+-- Eventos críticos são gravados aqui na mesma transação da mutação e movidos em lote para auditoria
+CREATE TABLE auditoria_outbox (
+    id          BIGINT       GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    ocorrido_em TIMESTAMP    NOT NULL,
+    tipo        VARCHAR(40)  NOT NULL,
+    ator_id     UUID,
+    alvo_id     UUID,
+    detalhe     VARCHAR(255)
+);
+
+CREATE TABLE auditoria (
+    id          BIGINT       GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    ocorrido_em TIMESTAMP    NOT NULL,
+    tipo        VARCHAR(40)  NOT NULL,
+    ator_id     UUID,
+    alvo_id     UUID,
+    detalhe     VARCHAR(255)
+);
+
+-- A consulta pagina do mais recente para o mais antigo (id decrescente) dentro de cada filtro
+CREATE INDEX ix_auditoria_alvo ON auditoria (alvo_id, id DESC);
+CREATE INDEX ix_auditoria_ator ON auditoria (ator_id, id DESC);
+CREATE INDEX ix_auditoria_tipo ON auditoria (tipo, id DESC);
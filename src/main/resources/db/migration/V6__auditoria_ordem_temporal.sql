@@ -0,0 +1,10 @@
+-- A auditoria pagina por (ocorrido_em, id): eventos do buffer são gravados depois dos do outbox, então o id
+-- sozinho não segue a ordem em que os eventos ocorreram
+DROP INDEX ix_auditoria_alvo;
+DROP INDEX ix_auditoria_ator;
+DROP INDEX ix_auditoria_tipo;
+
+CREATE INDEX ix_auditoria_ocorrido ON auditoria (ocorrido_em DESC, id DESC);
+CREATE INDEX ix_auditoria_alvo ON auditoria (alvo_id, ocorrido_em DESC, id DESC);
+CREATE INDEX ix_auditoria_ator ON auditoria (ator_id, ocorrido_em DESC, id DESC);
+CREATE INDEX ix_auditoria_tipo ON auditoria (tipo, ocorrido_em DESC, id DESC);
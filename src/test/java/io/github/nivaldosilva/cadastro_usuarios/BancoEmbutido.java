@@ -0,0 +1,61 @@
+package io.github.nivaldosilva.cadastro_usuarios;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * PostgreSQL embutido compartilhado pelos testes: um único servidor por JVM e um banco por classe de teste, para
+ * que os dados de uma não apareçam nas consultas da outra. O schema fica a cargo de quem usa (Flyway direto ou o
+ * da aplicação).
+ */
+public final class BancoEmbutido {
+
+    private static EmbeddedPostgres instancia;
+    private static final Set<String> bancos = new HashSet<>();
+
+    private BancoEmbutido() {
+    }
+
+    public static synchronized DataSource banco(String nome) {
+        EmbeddedPostgres postgres = iniciar();
+        // Um contexto Spring recriado chama o @DynamicPropertySource de novo para o mesmo banco
+        if (bancos.add(nome)) {
+            new JdbcTemplate(postgres.getPostgresDatabase()).execute("create database " + nome);
+        }
+        return postgres.getDatabase("postgres", nome);
+    }
+
+    public static void registrar(DynamicPropertyRegistry registry, String nome) {
+        banco(nome);
+        String url = instancia.getJdbcUrl("postgres", nome);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static EmbeddedPostgres iniciar() {
+        if (instancia == null) {
+            try {
+                instancia = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível iniciar o PostgreSQL embutido", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(BancoEmbutido::parar));
+        }
+        return instancia;
+    }
+
+    private static synchronized void parar() {
+        try {
+            instancia.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
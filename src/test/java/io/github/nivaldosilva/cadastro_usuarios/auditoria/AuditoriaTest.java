@@ -0,0 +1,143 @@
+package io.github.nivaldosilva.cadastro_usuarios.auditoria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.github.nivaldosilva.cadastro_usuarios.BancoEmbutido;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.AuditoriaResponse;
+import io.github.nivaldosilva.cadastro_usuarios.enums.TipoEventoAuditoria;
+import io.github.nivaldosilva.cadastro_usuarios.repository.AuditoriaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditoriaTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transacao;
+
+    private AuditoriaRepository auditoriaRepository;
+    private Auditoria auditoria;
+    private GravadorAuditoria gravador;
+
+    @BeforeAll
+    static void iniciarBanco() {
+        DataSource banco = BancoEmbutido.banco("auditoria");
+        Flyway.configure().dataSource(banco).load().migrate();
+        jdbcTemplate = new JdbcTemplate(banco);
+        transacao = new TransactionTemplate(new DataSourceTransactionManager(banco));
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate auditoria, auditoria_outbox");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditoriaRepository = new AuditoriaRepository(jdbcTemplate);
+        auditoria = new Auditoria(auditoriaRepository, meterRegistry, 100);
+        gravador = new GravadorAuditoria(auditoria, auditoriaRepository, meterRegistry, 3);
+    }
+
+    @Test
+    void eventosSoSaoGravadosSeATransacaoForConfirmada() {
+        UUID confirmado = UUID.randomUUID();
+        UUID desfeito = UUID.randomUUID();
+
+        transacao.executeWithoutResult(status -> {
+            auditoria.registrar(TipoEventoAuditoria.USUARIO_REGISTRADO, confirmado, "ok@exemplo.com");
+            auditoria.registrar(TipoEventoAuditoria.ENDERECO_CADASTRADO, confirmado, "endereco");
+        });
+        transacao.executeWithoutResult(status -> {
+            auditoria.registrar(TipoEventoAuditoria.USUARIO_REGISTRADO, desfeito, "falha@exemplo.com");
+            auditoria.registrar(TipoEventoAuditoria.ENDERECO_CADASTRADO, desfeito, "endereco");
+            status.setRollbackOnly();
+        });
+
+        assertThat(contar("auditoria_outbox")).isEqualTo(1);
+        gravador.drenar();
+
+        assertThat(contar("auditoria_outbox")).isZero();
+        assertThat(auditoriaRepository.consultar(null, null, null, null, 10))
+                .extracting(AuditoriaResponse::alvoId)
+                .containsOnly(confirmado)
+                .hasSize(2);
+    }
+
+    @Test
+    void alteracoesDeEnderecoETelefoneVaoParaOOutbox() {
+        UUID alvo = UUID.randomUUID();
+        transacao.executeWithoutResult(status -> {
+            auditoria.registrar(TipoEventoAuditoria.ENDERECO_ATUALIZADO, alvo, "endereco");
+            auditoria.registrar(TipoEventoAuditoria.TELEFONE_ATUALIZADO, alvo, "telefone");
+        });
+
+        assertThat(contar("auditoria_outbox")).isEqualTo(2);
+    }
+
+    @Test
+    void gravadorDrenaEmLotesEConsultaPaginaDoMaisRecente() {
+        UUID alvo = UUID.randomUUID();
+        for (int i = 0; i < 7; i++) {
+            UUID id = i % 2 == 0 ? alvo : UUID.randomUUID();
+            transacao.executeWithoutResult(status ->
+                    auditoria.registrar(TipoEventoAuditoria.PERFIL_ATUALIZADO, id, null));
+            auditoria.registrar(TipoEventoAuditoria.TELEFONE_CADASTRADO, id, null);
+        }
+
+        gravador.drenar();
+        assertThat(contar("auditoria")).isEqualTo(14);
+
+        List<AuditoriaResponse> primeira = auditoriaRepository.consultar(
+                alvo, null, TipoEventoAuditoria.PERFIL_ATUALIZADO, null, 3);
+        List<AuditoriaResponse> segunda = auditoriaRepository.consultar(
+                alvo, null, TipoEventoAuditoria.PERFIL_ATUALIZADO, CursorAuditoria.doEvento(primeira.get(2)), 3);
+
+        assertThat(primeira).hasSize(3);
+        assertThat(segunda).hasSize(1);
+        assertThat(primeira.get(0).ocorridoEm()).isAfterOrEqualTo(primeira.get(2).ocorridoEm());
+        assertThat(segunda.get(0).ocorridoEm()).isBeforeOrEqualTo(primeira.get(2).ocorridoEm());
+    }
+
+    @Test
+    void consultaSegueOInstanteDoEventoENaoAOrdemDeGravacao() {
+        // O buffer grava depois do outbox: ids maiores podem ter ocorrido antes
+        LocalDateTime base = LocalDateTime.of(2026, 1, 10, 12, 0);
+        UUID alvo = UUID.randomUUID();
+        auditoriaRepository.inserir(List.of(
+                evento(base.plusSeconds(30), alvo, "c"),
+                evento(base.plusSeconds(40), alvo, "d")));
+        auditoriaRepository.inserir(List.of(
+                evento(base.plusSeconds(10), alvo, "a"),
+                evento(base.plusSeconds(30), alvo, "c2"),
+                evento(base.plusSeconds(20), alvo, "b")));
+
+        List<String> detalhes = new ArrayList<>();
+        CursorAuditoria cursor = null;
+        List<AuditoriaResponse> pagina;
+        do {
+            pagina = auditoriaRepository.consultar(alvo, null, null, cursor, 2);
+            pagina.forEach(evento -> detalhes.add(evento.detalhe()));
+            // Ida e volta pelo formato devolvido em "next"
+            cursor = pagina.isEmpty() ? null
+                    : CursorAuditoria.de(CursorAuditoria.doEvento(pagina.getLast()).toString());
+        } while (pagina.size() == 2);
+
+        assertThat(detalhes).containsExactly("d", "c2", "c", "b", "a");
+    }
+
+    private static EventoAuditoria evento(LocalDateTime ocorridoEm, UUID alvo, String detalhe) {
+        return new EventoAuditoria(ocorridoEm, TipoEventoAuditoria.PERFIL_ATUALIZADO, null, alvo, detalhe);
+    }
+
+    private static int contar(String tabela) {
+        return jdbcTemplate.queryForObject("select count(*) from " + tabela, Integer.class);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FiltroBloomTest {
+
+    private static final int CAPACIDADE = 50_000;
+    private static final int CONSULTAS_AUSENTES = 200_000;
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.001})
+    void semFalsosNegativosEFprProximaDoAlvoNaCapacidade(double fprAlvo) {
+        FiltroBloom filtro = new FiltroBloom(CAPACIDADE, fprAlvo);
+        IntStream.range(0, CAPACIDADE).forEach(i -> filtro.adicionar("usuario" + i + "@exemplo.com"));
+
+        assertThat(IntStream.range(0, CAPACIDADE))
+                .allMatch(i -> filtro.talvezContenha("usuario" + i + "@exemplo.com"));
+
+        long falsosPositivos = IntStream.range(0, CONSULTAS_AUSENTES)
+                .filter(i -> filtro.talvezContenha("ausente" + i + "@teste.com.br"))
+                .count();
+        double fprObservada = (double) falsosPositivos / CONSULTAS_AUSENTES;
+
+        assertThat(fprObservada).isBetween(fprAlvo * 0.5, fprAlvo * 1.5);
+        assertThat(filtro.fprEstimada()).isBetween(fprAlvo * 0.8, fprAlvo * 1.2);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FiltroEmailsTest {
+
+    private UsuarioRepository usuarioRepository;
+    private FiltroEmails filtroEmails;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        filtroEmails = new FiltroEmails(usuarioRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 1_000, 0.01);
+    }
+
+    @Test
+    void emailAusenteDoFiltroNaoConsultaOBanco() {
+        when(usuarioRepository.streamEmails()).thenReturn(Stream.of("ana@exemplo.com"));
+        filtroEmails.reconstruir();
+
+        assertThat(filtroEmails.jaCadastrado("bruno@exemplo.com")).isFalse();
+        verify(usuarioRepository, never()).existsByEmail("bruno@exemplo.com");
+    }
+
+    @Test
+    void emailAdicionadoDuranteAReconstrucaoFicaNoNovoFiltro() {
+        when(usuarioRepository.streamEmails()).thenReturn(Stream.of("ana@exemplo.com"));
+        filtroEmails.reconstruir();
+
+        // Cadastro confirmado depois do snapshot lido pela reconstrução
+        AtomicBoolean cadastrado = new AtomicBoolean();
+        when(usuarioRepository.streamEmails()).thenAnswer(invocacao ->
+                Stream.of("ana@exemplo.com", "bruno@exemplo.com").peek(email -> {
+                    if (cadastrado.compareAndSet(false, true)) {
+                        filtroEmails.adicionar("carla@exemplo.com");
+                    }
+                }));
+        filtroEmails.reconstruir();
+
+        assertThat(filtroEmails.talvezCadastrado("ana@exemplo.com")).isTrue();
+        assertThat(filtroEmails.talvezCadastrado("bruno@exemplo.com")).isTrue();
+        assertThat(filtroEmails.talvezCadastrado("carla@exemplo.com")).isTrue();
+    }
+
+    @Test
+    void falhaNaConstrucaoInicialMantemAsConsultasNoBanco() {
+        when(usuarioRepository.streamEmails()).thenThrow(new QueryTimeoutException("banco indisponível"));
+        filtroEmails.construirInicial();
+
+        when(usuarioRepository.existsByEmail("ana@exemplo.com")).thenReturn(true);
+        assertThat(filtroEmails.talvezCadastrado("bruno@exemplo.com")).isTrue();
+        assertThat(filtroEmails.jaCadastrado("ana@exemplo.com")).isTrue();
+        verify(usuarioRepository).existsByEmail("ana@exemplo.com");
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.nivaldosilva.cadastro_usuarios.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UsuarioCacheTest {
+
+    private static final String EMAIL = "maria@sistema.com";
+
+    private final UUID id = UUID.randomUUID();
+    private UsuarioRepository usuarioRepository;
+    private UsuarioCache cache;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        cache = new UsuarioCache(usuarioRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void segundaBuscaVemDoCache() {
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario("Maria")));
+
+        cache.buscarPorEmail(EMAIL);
+        assertThat(cache.buscarPorEmail(EMAIL)).map(UsuarioSnapshot::nome).contains("Maria");
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void cargaConcorrenteComInvalidacaoNaoDeixaSnapshotAntigo() {
+        // A atualização é confirmada e invalida o cache enquanto a consulta ainda devolve o estado anterior
+        when(usuarioRepository.findByEmail(EMAIL))
+                .thenAnswer(invocacao -> {
+                    cache.invalidar(EMAIL);
+                    return Optional.of(usuario("Maria"));
+                })
+                .thenReturn(Optional.of(usuario("Maria Atualizada")));
+
+        assertThat(cache.buscarPorEmail(EMAIL)).map(UsuarioSnapshot::nome).contains("Maria");
+        assertThat(cache.buscarPorEmail(EMAIL)).map(UsuarioSnapshot::nome).contains("Maria Atualizada");
+        assertThat(cache.buscarPorEmail(EMAIL)).map(UsuarioSnapshot::nome).contains("Maria Atualizada");
+
+        verify(usuarioRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private Usuario usuario(String nome) {
+        return Usuario.builder()
+                .id(id)
+                .nome(nome)
+                .email(EMAIL)
+                .senha("x")
+                .roles(Set.of(Role.USUARIO))
+                .ativo(true)
+                .contaBloqueada(false)
+                .credenciaisExpiradas(false)
+                .build();
+    }
+}
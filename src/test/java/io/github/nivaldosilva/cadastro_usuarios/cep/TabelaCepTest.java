@@ -0,0 +1,69 @@
+package io.github.nivaldosilva.cadastro_usuarios.cep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.BaseCepInvalidaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TabelaCepTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void basePadraoIdentificaOEstadoNasBordasDasFaixas() {
+        TabelaCep tabela = tabela("classpath:cep/faixas-uf.csv");
+
+        assertThat(tabela.buscar("01001-000")).isEqualTo(new Localidade("SP", null));
+        assertThat(tabela.buscar("19999999")).isEqualTo(new Localidade("SP", null));
+        assertThat(tabela.buscar("20000-000")).isEqualTo(new Localidade("RJ", null));
+        assertThat(tabela.buscar("69400-000")).isEqualTo(new Localidade("AM", null));
+        assertThat(tabela.buscar("99999-999")).isEqualTo(new Localidade("RS", null));
+        assertThat(tabela.buscar("00999-999")).isNull();
+    }
+
+    @Test
+    void cepComFormatoInvalidoNaoEncontraLocalidade() {
+        TabelaCep tabela = tabela("classpath:cep/faixas-uf.csv");
+
+        assertThat(tabela.buscar(null)).isNull();
+        assertThat(tabela.buscar("0100-1000")).isNull();
+        assertThat(tabela.buscar("01001-0000")).isNull();
+        assertThat(tabela.buscar("01001-00a")).isNull();
+    }
+
+    @Test
+    void recargaTrocaABaseEMantemAAnteriorSeOArquivoForInvalido() throws IOException {
+        Path csv = diretorio.resolve("faixas.csv");
+        Files.writeString(csv, "01000-000,05999-999,SP\n", StandardCharsets.UTF_8);
+        TabelaCep tabela = tabela(csv.toUri().toString());
+        assertThat(tabela.buscar("01001-000").cidade()).isNull();
+
+        Files.writeString(csv, """
+                # cep_inicio,cep_fim,uf,cidade
+                01000-000,05999-999,sp,São Paulo
+                20000-000,23799-999,RJ,Rio de Janeiro
+                """, StandardCharsets.UTF_8);
+        assertThat(tabela.recarregar()).isEqualTo(2);
+        assertThat(tabela.buscar("01001-000")).isEqualTo(new Localidade("SP", "São Paulo"));
+        assertThat(tabela.buscar("20040-020")).isEqualTo(new Localidade("RJ", "Rio de Janeiro"));
+
+        Files.writeString(csv, "01000-000,05999-999,SP\n02000-000,02999-999,SP\n", StandardCharsets.UTF_8);
+        assertThatThrownBy(tabela::recarregar)
+                .isInstanceOf(BaseCepInvalidaException.class)
+                .hasMessageContaining("sobrepostas");
+        assertThat(tabela.buscar("01001-000")).isEqualTo(new Localidade("SP", "São Paulo"));
+    }
+
+    private TabelaCep tabela(String origem) {
+        return new TabelaCep(new DefaultResourceLoader(), new SimpleMeterRegistry(), origem, diretorio.toString());
+    }
+}
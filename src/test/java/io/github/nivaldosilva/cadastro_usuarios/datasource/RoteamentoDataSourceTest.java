@@ -0,0 +1,124 @@
+package io.github.nivaldosilva.cadastro_usuarios.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.github.nivaldosilva.cadastro_usuarios.BancoEmbutido;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RoteamentoDataSourceTest {
+
+    private static DataSource primario;
+    private static DataSource replica;
+
+    private Replica replicaRoteada;
+    private RoteamentoDataSource roteamento;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeAll
+    static void iniciarBancos() throws SQLException {
+        // Dois bancos no mesmo servidor fazem o papel de primário e réplica
+        primario = BancoEmbutido.banco("roteamento_primario");
+        replica = BancoEmbutido.banco("roteamento_replica");
+        marcarOrigem(primario, "primario");
+        marcarOrigem(replica, "replica");
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicaRoteada = new Replica("replica-1", replica);
+        roteamento = new RoteamentoDataSource(primario, List.of(replicaRoteada),
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(roteamento);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void transacaoSomenteLeituraVaiParaReplica() {
+        assertThat(leitura.execute(status -> origem())).isEqualTo("replica");
+    }
+
+    @Test
+    void transacaoDeEscritaVaiParaPrimario() {
+        assertThat(escrita.execute(status -> origem())).isEqualTo("primario");
+    }
+
+    @Test
+    void leituraAposPropriaEscritaVaiParaPrimarioDuranteAJanela() {
+        autenticar("ana@exemplo.com");
+        escrita.executeWithoutResult(status -> origem());
+        assertThat(leitura.execute(status -> origem())).isEqualTo("primario");
+
+        autenticar("bruno@exemplo.com");
+        assertThat(leitura.execute(status -> origem())).isEqualTo("replica");
+    }
+
+    @Test
+    void leituraNoPrimarioIgnoraReplicaAtrasada() {
+        // Cadastro confirmado no primário que a réplica ainda não recebeu
+        new JdbcTemplate(primario).update("insert into usuarios_login values (?)",
+                "novo@exemplo.com");
+
+        assertThat(leitura.execute(status -> contarLogin("novo@exemplo.com"))).isZero();
+        assertThat(RoteamentoDataSource.noPrimario(() -> leitura.execute(status -> contarLogin("novo@exemplo.com"))))
+                .isEqualTo(1);
+        assertThat(leitura.execute(status -> origem())).isEqualTo("replica");
+    }
+
+    @Test
+    void replicaIndisponivelCaiNoPrimario() {
+        replicaRoteada.setDisponivel(false);
+        assertThat(leitura.execute(status -> origem())).isEqualTo("primario");
+
+        roteamento.verificarReplicas();
+        assertThat(replicaRoteada.isDisponivel()).isTrue();
+        assertThat(leitura.execute(status -> origem())).isEqualTo("replica");
+    }
+
+    private String origem() {
+        return jdbcTemplate.queryForObject("select nome from origem", String.class);
+    }
+
+    private int contarLogin(String email) {
+        return jdbcTemplate.queryForObject("select count(*) from usuarios_login where email = ?", Integer.class, email);
+    }
+
+    private static void autenticar(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(email, null, "USUARIO"));
+    }
+
+    private static void marcarOrigem(DataSource dataSource, String nome) throws SQLException {
+        try (Connection conexao = dataSource.getConnection(); Statement statement = conexao.createStatement()) {
+            statement.execute("create table origem (nome varchar(20))");
+            statement.execute("insert into origem values ('" + nome + "')");
+            statement.execute("create table usuarios_login (email varchar(100))");
+        }
+    }
+}
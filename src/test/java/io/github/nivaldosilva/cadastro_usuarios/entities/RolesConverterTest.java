@@ -0,0 +1,37 @@
+package io.github.nivaldosilva.cadastro_usuarios.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+
+class RolesConverterTest {
+
+    private final RolesConverter converter = new RolesConverter();
+
+    @Test
+    void converteIdaEVoltaTodasAsCombinacoes() {
+        assertThat(converter.convertToDatabaseColumn(Set.of())).isZero();
+        assertThat(converter.convertToDatabaseColumn(Set.of(Role.ADMIN))).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(Set.of(Role.USUARIO))).isEqualTo(2);
+        assertThat(converter.convertToDatabaseColumn(Set.of(Role.ADMIN, Role.USUARIO))).isEqualTo(3);
+
+        for (int mascara = 0; mascara < 4; mascara++) {
+            assertThat(converter.convertToDatabaseColumn(converter.convertToEntityAttribute(mascara))).isEqualTo(mascara);
+        }
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    }
+
+    @Test
+    void authoritiesSaoCompartilhadasPorCombinacao() {
+        Usuario admin = Usuario.builder().roles(new HashSet<>(Set.of(Role.ADMIN, Role.USUARIO))).build();
+        Usuario outroAdmin = Usuario.builder().roles(Set.of(Role.USUARIO, Role.ADMIN)).build();
+
+        assertThat(admin.getAuthorities()).isSameAs(outroAdmin.getAuthorities());
+        assertThat(admin.getAuthorities()).extracting("authority")
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USUARIO");
+        assertThat(Usuario.builder().roles(null).build().getAuthorities()).isEmpty();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.nivaldosilva.cadastro_usuarios.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void geraVersao7ComVarianteRfc() {
+        UUID id = UuidV7Generator.gerar();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void idsSaoEstritamenteCrescentesMesmoNoMesmoMilissegundo() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7Generator.gerar());
+        }
+
+        // Comparação sem sinal, como o PostgreSQL ordena uuid
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits()))
+                    .isNegative();
+        }
+    }
+
+    @Test
+    void prefixoCarregaOInstanteDeCriacao() {
+        long antes = System.currentTimeMillis();
+        UUID id = UuidV7Generator.gerar();
+
+        long milissegundos = id.getMostSignificantBits() >>> 16;
+        assertThat(milissegundos).isGreaterThanOrEqualTo(antes).isLessThan(antes + 1_000);
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import io.github.nivaldosilva.cadastro_usuarios.BancoEmbutido;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.BuscaUsuariosRequest;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+
+/**
+ * Confere o plano de cada combinação de filtros da busca sobre uma base com 100 mil usuários: nenhuma deve
+ * cair em Seq Scan, e as seletivas devem usar o índice criado para elas.
+ */
+class BuscaUsuariosPlanoTest {
+
+    private static final int USUARIOS = 100_000;
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void popularBanco() {
+        DataSource banco = BancoEmbutido.banco("busca_usuarios_plano");
+        Flyway.configure().dataSource(banco).load().migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(banco);
+        jdbc.update("""
+                insert into usuarios (id, nome, email, senha, ativo, conta_bloqueada, credenciais_expiradas,
+                                      data_criacao, roles)
+                select gen_random_uuid(), 'Usuario ' || md5(i::text), 'u' || i || '@exemplo.com', 'x',
+                       i % 100 <> 0, false, false, now(), case when i % 1000 = 0 then 3 else 2 end
+                from generate_series(1, ?) i
+                """, USUARIOS);
+        jdbc.update("""
+                insert into enderecos (id, rua, numero, cidade, estado, cep, usuario_id, data_criacao)
+                select gen_random_uuid(), 'Rua A', '1', 'Cidade ' || (n % 500),
+                       (array['AC','AL','AP','AM','BA','CE','DF','ES','GO','MA','MT','MS','MG','PA','PB','PR',
+                              'PE','PI','RJ','RN','RS','RO','RR','SC','SP','SE','TO'])[1 + n % 27],
+                       '00000-000', id, now()
+                from (select id, row_number() over () as n from usuarios) u
+                """);
+        UUID mariana = UUID.randomUUID();
+        jdbc.update("""
+                insert into usuarios (id, nome, email, senha, ativo, conta_bloqueada, credenciais_expiradas,
+                                      data_criacao, roles)
+                values (?, 'Mariana Albuquerque', 'mariana@exemplo.com', 'x', true, false, false, now(), 3)
+                """, mariana);
+        jdbc.update("""
+                insert into enderecos (id, rua, numero, cidade, estado, cep, usuario_id, data_criacao)
+                values (gen_random_uuid(), 'Rua B', '2', 'Recife', 'PE', '50000-000', ?, now())
+                """, mariana);
+        jdbc.execute("analyze");
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(jdbc);
+    }
+
+    static Stream<Arguments> combinacoes() {
+        return Stream.of(
+                Arguments.of("prefixo do nome", BuscaUsuariosRequest.builder().nome("Mariana Alb").build(),
+                        List.of("ix_usuarios_nome_prefixo", "ix_usuarios_nome_trgm")),
+                Arguments.of("trecho do nome", BuscaUsuariosRequest.builder().nomeContem("albuquer").build(),
+                        List.of("ix_usuarios_nome_trgm")),
+                Arguments.of("email", BuscaUsuariosRequest.builder().email("Mariana@Exemplo.com").build(),
+                        List.of("ux_usuarios_email_lower")),
+                Arguments.of("role ADMIN", BuscaUsuariosRequest.builder().role(Role.ADMIN).build(),
+                        List.of("ix_usuarios_admins")),
+                Arguments.of("role USUARIO", BuscaUsuariosRequest.builder().role(Role.USUARIO).build(),
+                        List.of("usuarios_pkey")),
+                Arguments.of("inativos", BuscaUsuariosRequest.builder().ativo(false).build(),
+                        List.of("ix_usuarios_inativos")),
+                Arguments.of("ativos", BuscaUsuariosRequest.builder().ativo(true).build(),
+                        List.of("usuarios_pkey")),
+                Arguments.of("estado", BuscaUsuariosRequest.builder().estado("pe").build(),
+                        List.of("ix_enderecos_estado_cidade", "idx_enderecos_usuario_id")),
+                Arguments.of("estado e cidade", BuscaUsuariosRequest.builder().estado("PE").cidade("recife").build(),
+                        List.of("ix_enderecos_estado_cidade")),
+                Arguments.of("prefixo, role e ativo",
+                        BuscaUsuariosRequest.builder().nome("mariana").role(Role.ADMIN).ativo(true).build(),
+                        List.of("ix_usuarios_nome_prefixo", "ix_usuarios_nome_trgm", "ix_usuarios_admins")),
+                Arguments.of("trecho e estado",
+                        BuscaUsuariosRequest.builder().nomeContem("albuquer").estado("PE").build(),
+                        List.of("ix_usuarios_nome_trgm", "ix_enderecos_estado_cidade")),
+                Arguments.of("email, ativo e cidade",
+                        BuscaUsuariosRequest.builder().email("mariana@exemplo.com").ativo(true)
+                                .estado("PE").cidade("Recife").build(),
+                        List.of("ux_usuarios_email_lower", "ix_enderecos_estado_cidade")),
+                Arguments.of("role, estado e cidade",
+                        BuscaUsuariosRequest.builder().role(Role.ADMIN).estado("PE").cidade("Recife").build(),
+                        List.of("ix_usuarios_admins", "ix_enderecos_estado_cidade")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("combinacoes")
+    void buscaUsaIndiceSemSeqScan(String descricao, BuscaUsuariosRequest filtro, List<String> indicesAceitos) {
+        assertPlano(BuscaUsuariosSql.montar(filtro, null, 51), indicesAceitos);
+    }
+
+    @ParameterizedTest(name = "{0}, com cursor")
+    @MethodSource("combinacoes")
+    void paginasSeguintesMantemOPlano(String descricao, BuscaUsuariosRequest filtro, List<String> indicesAceitos) {
+        assertPlano(BuscaUsuariosSql.montar(filtro, new UUID(0, 0), 51), indicesAceitos);
+    }
+
+    private static void assertPlano(BuscaUsuariosSql busca, List<String> indicesAceitos) {
+        String plano = String.join("\n",
+                jdbcTemplate.queryForList("explain " + busca.sql(), busca.parametros(), String.class));
+
+        assertThat(plano).doesNotContain("Seq Scan");
+        assertThat(indicesAceitos).as(plano).anyMatch(plano::contains);
+    }
+}
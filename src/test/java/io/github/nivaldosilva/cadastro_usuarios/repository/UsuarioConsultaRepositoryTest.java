@@ -0,0 +1,135 @@
+package io.github.nivaldosilva.cadastro_usuarios.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.nivaldosilva.cadastro_usuarios.BancoEmbutido;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.UsuarioResponse;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Telefone;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Confere que as projeções devolvem o mesmo JSON que {@link UsuarioMapper#toResponse} sobre as entidades e que
+ * cada chamada executa um número fixo de consultas: uma para os usuários e uma por tabela filha.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UsuarioConsultaRepositoryTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().findAndAddModules().build();
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics estatisticas;
+    private final List<UUID> ids = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        BancoEmbutido.registrar(registry, "usuario_consulta");
+    }
+
+    @BeforeEach
+    void setUp() {
+        ids.add(salvar("Ana Souza", Set.of(Role.USUARIO), 2, 1));
+        ids.add(salvar("Bruno Lima", Set.of(Role.ADMIN, Role.USUARIO), 0, 0));
+        ids.add(salvar("Carla Dias", Set.of(Role.USUARIO), 0, 3));
+        ids.add(salvar("Diego Alves", Set.of(Role.USUARIO), 1, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void perfilProjetadoIgualAoMapper() throws Exception {
+        for (UUID id : ids) {
+            long antes = estatisticas.getPrepareStatementCount();
+            UsuarioResponse projetado = usuarioRepository.buscarResponsePorId(id).orElseThrow();
+            assertThat(estatisticas.getPrepareStatementCount() - antes).isEqualTo(3);
+
+            assertMesmoJson(viaMapper(id), projetado);
+        }
+    }
+
+    @Test
+    void listagemProjetadaIgualAoMapperComConsultasFixas() throws Exception {
+        long antes = estatisticas.getPrepareStatementCount();
+        List<UsuarioResponse> pagina = usuarioRepository.listarResponses(null, 10);
+        assertThat(estatisticas.getPrepareStatementCount() - antes).isEqualTo(3);
+
+        assertThat(pagina).extracting(UsuarioResponse::id).containsExactlyElementsOf(ids.stream().sorted().toList());
+        for (UsuarioResponse projetado : pagina) {
+            assertMesmoJson(viaMapper(projetado.id()), projetado);
+        }
+    }
+
+    @Test
+    void paginaVaziaExecutaUmaConsulta() {
+        UUID ultimo = ids.stream().max(UUID::compareTo).orElseThrow();
+
+        long antes = estatisticas.getPrepareStatementCount();
+        assertThat(usuarioRepository.listarResponses(ultimo, 10)).isEmpty();
+        assertThat(estatisticas.getPrepareStatementCount() - antes).isEqualTo(1);
+    }
+
+    private UsuarioResponse viaMapper(UUID id) {
+        entityManager.clear();
+        return UsuarioMapper.toResponse(entityManager.find(Usuario.class, id));
+    }
+
+    // Ordem de arrays e de roles não é comparada: as coleções da entidade não têm ordem definida
+    private static void assertMesmoJson(UsuarioResponse esperado, UsuarioResponse atual) throws Exception {
+        JSONAssert.assertEquals(JSON.writeValueAsString(esperado), JSON.writeValueAsString(atual),
+                JSONCompareMode.NON_EXTENSIBLE);
+    }
+
+    private UUID salvar(String nome, Set<Role> roles, int enderecos, int telefones) {
+        Usuario usuario = Usuario.builder()
+                .nome(nome)
+                .email(nome.toLowerCase(Locale.ROOT).replace(' ', '.') + "@exemplo.com")
+                .senha("x")
+                .roles(new HashSet<>(roles))
+                .build();
+
+        List<Endereco> listaEnderecos = new ArrayList<>();
+        for (int i = 0; i < enderecos; i++) {
+            listaEnderecos.add(Endereco.builder()
+                    .rua("Rua " + i).numero(String.valueOf(i)).complemento(i == 0 ? null : "Apto " + i)
+                    .cidade("Recife").estado("PE").cep("50000-00" + i).usuario(usuario).build());
+        }
+        List<Telefone> listaTelefones = new ArrayList<>();
+        for (int i = 0; i < telefones; i++) {
+            listaTelefones.add(Telefone.builder().ddd("81").numero("9999900" + i).usuario(usuario).build());
+        }
+        usuario.setEnderecos(listaEnderecos);
+        usuario.setTelefones(listaTelefones);
+
+        entityManager.persist(usuario);
+        return usuario.getId();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "cabecalho.corpo.assinatura";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final JwtTimestampValidator validator = new JwtTimestampValidator(Duration.ZERO);
+
+    private JwtDecoder delegate;
+    private CachingJwtDecoder decoder;
+    private Instant expiraEm;
+
+    @BeforeEach
+    void setUp() {
+        expiraEm = Instant.now().plusSeconds(60);
+        delegate = mock(JwtDecoder.class);
+        when(delegate.decode(TOKEN)).thenAnswer(invocacao -> jwt());
+        decoder = new CachingJwtDecoder(delegate, validator, 100, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    @Test
+    void segundoUsoNaoDecodificaDeNovo() {
+        Jwt primeiro = decoder.decode(TOKEN);
+        Jwt segundo = decoder.decode(TOKEN);
+
+        assertThat(segundo).isSameAs(primeiro);
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    void tokenEmCacheExpiradoEhRecusadoPelosValidadores() {
+        decoder.decode(TOKEN);
+
+        // A entrada ainda está no cache (o ticker não andou), mas o relógio do validador já passou do exp
+        validator.setClock(Clock.fixed(expiraEm.plusSeconds(1), ZoneOffset.UTC));
+
+        assertThatThrownBy(() -> decoder.decode(TOKEN))
+                .isInstanceOf(JwtValidationException.class)
+                .hasMessageContaining("expired");
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    void entradaSaiDoCacheNoExp() {
+        decoder.decode(TOKEN);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private Jwt jwt() {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "EdDSA")
+                .subject("usuario@exemplo.com")
+                .issuedAt(expiraEm.minusSeconds(300))
+                .expiresAt(expiraEm)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class IpClienteTest {
+
+    private final IpCliente semProxies = new IpCliente(List.of());
+    private final IpCliente comProxies = new IpCliente(List.of("10.0.0.0/8", "192.168.1.5"));
+
+    @Test
+    void semProxiesConfiaveisIgnoraOCabecalho() {
+        assertThat(semProxies.resolver(requisicao("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void conexaoDiretaNaoPodeForjarOCabecalho() {
+        assertThat(comProxies.resolver(requisicao("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void atrasDeProxiesConfiaveisUsaOPrimeiroEnderecoNaoConfiavelDaDireita() {
+        // O cliente enviou um valor forjado; os proxies acrescentaram os endereços que receberam
+        MockHttpServletRequest request = requisicao("10.1.2.3", "1.1.1.1, 203.0.113.7, 192.168.1.5");
+
+        assertThat(comProxies.resolver(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void cabecalhoAusenteOuInvalidoMantemOUltimoSaltoConhecido() {
+        assertThat(comProxies.resolver(requisicao("10.1.2.3", null))).isEqualTo("10.1.2.3");
+        assertThat(comProxies.resolver(requisicao("10.1.2.3", "exemplo.com"))).isEqualTo("10.1.2.3");
+        assertThat(comProxies.resolver(requisicao("10.1.2.3", "exemplo.com, 10.0.0.9"))).isEqualTo("10.0.0.9");
+    }
+
+    @Test
+    void todosOsSaltosConfiaveisUsaOMaisDistante() {
+        assertThat(comProxies.resolver(requisicao("10.1.2.3", "10.0.0.1, 10.0.0.2"))).isEqualTo("10.0.0.1");
+    }
+
+    private static MockHttpServletRequest requisicao(String remoteAddr, String encaminhado) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (encaminhado != null) {
+            request.addHeader("X-Forwarded-For", encaminhado);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+class JwtChavesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    void tokenAssinadoEVerificadoComOAlgoritmoConfigurado(String algoritmo) throws JOSEException {
+        // A chave "anterior" fica no JWK Set como uma chave em rotação
+        JWKSet jwkSet = new JWKSet(List.of(chave(algoritmo, "assinatura"), chave(algoritmo, "anterior")));
+        JwtChaves chaves = JwtChaves.deJwkSet(jwkSet.toString(false), "assinatura", algoritmo);
+
+        Instant agora = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("api://cadastro-usuarios")
+                .subject("usuario@exemplo.com")
+                .issuedAt(agora)
+                .expiresAt(agora.plusSeconds(300))
+                .claim("scope", "USUARIO")
+                .build();
+        JwsHeader cabecalho = JwsHeader.with(chaves.algoritmoJws()).keyId(chaves.keyId()).build();
+
+        Jwt emitido = chaves.encoder().encode(JwtEncoderParameters.from(cabecalho, claims));
+        Jwt decodificado = chaves.decoder(JwtValidators.createDefault()).decode(emitido.getTokenValue());
+
+        assertThat(decodificado.getHeaders()).containsEntry("alg", algoritmo).containsEntry("kid", "assinatura");
+        assertThat(decodificado.getSubject()).isEqualTo("usuario@exemplo.com");
+        assertThat(decodificado.getClaimAsString("scope")).isEqualTo("USUARIO");
+        assertThat(decodificado.getExpiresAt()).isEqualTo(agora.plusSeconds(300).truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static JWK chave(String algoritmo, String kid) throws JOSEException {
+        return switch (algoritmo) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID(kid).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(kid).generate();
+            case "EdDSA" -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(kid).generate();
+            default -> throw new IllegalArgumentException(algoritmo);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.LimiteTentativasExcedidoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LimitadorLoginTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private LimitadorLogin limitador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Email: 6 por minuto (uma a cada 10s) com rajada de 3; IP: 60 por minuto com rajada de 5
+        limitador = new LimitadorLogin(meterRegistry, true, 60, 5, 6, 3, 1000, Duration.ofMinutes(10), agora::get);
+    }
+
+    @Test
+    void rajadaDoEmailEsgotadaRetornaTempoAteAProximaTentativa() {
+        for (int i = 0; i < 3; i++) {
+            limitador.verificar("10.0.0." + i, "alvo@exemplo.com");
+        }
+
+        assertThatThrownBy(() -> limitador.verificar("10.0.0.9", "alvo@exemplo.com"))
+                .isInstanceOfSatisfying(LimiteTentativasExcedidoException.class,
+                        e -> assertThat(e.getSegundosParaNovaTentativa()).isEqualTo(10));
+
+        avancar(10);
+        assertThatCode(() -> limitador.verificar("10.0.0.9", "alvo@exemplo.com")).doesNotThrowAnyException();
+        assertThatCode(() -> limitador.verificar("10.0.0.9", "outro@exemplo.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ipEsgotadoBloqueiaQualquerEmail() {
+        for (int i = 0; i < 5; i++) {
+            limitador.verificar("10.0.0.1", "usuario" + i + "@exemplo.com");
+        }
+
+        assertThatThrownBy(() -> limitador.verificar("10.0.0.1", "novo@exemplo.com"))
+                .isInstanceOfSatisfying(LimiteTentativasExcedidoException.class,
+                        e -> assertThat(e.getSegundosParaNovaTentativa()).isEqualTo(1));
+        assertThatCode(() -> limitador.verificar("10.0.0.2", "novo@exemplo.com")).doesNotThrowAnyException();
+
+        assertThat(meterRegistry.get("login.limite").tag("resultado", "bloqueado").tag("chave", "ip")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("login.limite").tag("resultado", "permitido")
+                .counter().count()).isEqualTo(6);
+    }
+
+    @Test
+    void desabilitadoNaoLimita() {
+        LimitadorLogin desabilitado = new LimitadorLogin(meterRegistry, false, 1, 1, 1, 1, 10,
+                Duration.ofMinutes(1), agora::get);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 100; i++) {
+                desabilitado.verificar("10.0.0.1", "alvo@exemplo.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    private void avancar(long segundos) {
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(segundos));
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SenhaHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch iniciou = new CountDownLatch(1);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private SenhaHashExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        liberar.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void esperaProjetadaAcimaDoTimeoutEhRecusadaNaEntrada() throws InterruptedException {
+        executor = new SenhaHashExecutor(1, 10, 250, meterRegistry);
+        executor.executar(() -> dormir(150));
+
+        CompletableFuture<Object> ocupando = executor.submeter(this::aguardarLiberacao);
+        iniciou.await();
+        CompletableFuture<Object> naFila = executor.submeter(() -> null);
+
+        // Uma tarefa à frente na única thread: (1 + 1) x 150 ms passa do timeout de 250 ms
+        assertThatThrownBy(() -> executor.executar(() -> null))
+                .isInstanceOf(ServicoSobrecarregadoException.class);
+        assertThat(fila()).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(ocupando.join()).isNull();
+        assertThat(naFila.join()).isNull();
+    }
+
+    @Test
+    void timeoutCancelaATarefaETiraDaFila() throws InterruptedException {
+        executor = new SenhaHashExecutor(1, 10, 100, meterRegistry);
+        CompletableFuture<Object> ocupando = executor.submeter(this::aguardarLiberacao);
+        iniciou.await();
+        AtomicBoolean executou = new AtomicBoolean();
+
+        assertThatThrownBy(() -> executor.executar(() -> executou.getAndSet(true)))
+                .isInstanceOf(ServicoSobrecarregadoException.class);
+        assertThat(fila()).isZero();
+
+        liberar.countDown();
+        ocupando.join();
+        assertThat(executou).isFalse();
+    }
+
+    private double fila() {
+        return meterRegistry.get("senha.hash.fila").gauge().value();
+    }
+
+    private Object aguardarLiberacao() {
+        iniciou.countDown();
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static Object dormir(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
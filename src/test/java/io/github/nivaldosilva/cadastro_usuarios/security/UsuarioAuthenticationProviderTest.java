@@ -0,0 +1,132 @@
+package io.github.nivaldosilva.cadastro_usuarios.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioCache;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.enums.Role;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UsuarioAuthenticationProviderTest {
+
+    private static final String EMAIL = "maria@sistema.com";
+    private static final String SENHA = "senha123";
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private UsuarioRepository usuarioRepository;
+    private UsuarioAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        UsuarioCache usuarioCache = new UsuarioCache(usuarioRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        JwtUserDetailsService userDetailsService = new JwtUserDetailsService(usuarioRepository, usuarioCache);
+        provider = new UsuarioAuthenticationProvider(userDetailsService, passwordEncoder);
+    }
+
+    @Test
+    void loginValidoConsultaOUsuarioUmaUnicaVez() {
+        Usuario usuario = usuario(true);
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
+
+        Authentication resultado = provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA));
+
+        assertThat(resultado.isAuthenticated()).isTrue();
+        assertThat(resultado.getPrincipal()).isInstanceOfSatisfying(Usuario.class,
+                principal -> assertThat(principal.getId()).isEqualTo(usuario.getId()));
+        assertThat(resultado.getAuthorities()).extracting("authority").containsExactly("ROLE_USUARIO");
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    @Test
+    void loginsRepetidosNaoVoltamAoBanco() {
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario(true)));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA));
+        provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA));
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    @Test
+    void senhaIncorretaConsultaOUsuarioUmaUnicaVez() {
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario(true)));
+
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, "errada")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    @Test
+    void contaDesativadaEhRecusadaComUmaUnicaConsulta() {
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario(false)));
+
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA)))
+                .isInstanceOf(DisabledException.class);
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    @Test
+    void hashComForcaAcimaDaConfiguradaNaoEhRegravado() {
+        // Gravado por uma instância com senha.bcrypt.forca maior: o login aqui não pode rebaixar nem regravar
+        Usuario usuario = usuario(true);
+        usuario.setSenha(new BCryptPasswordEncoder(5).encode(SENHA));
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA));
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    @Test
+    void emailInexistenteConsultaUmaUnicaVez() {
+        when(usuarioRepository.findByEmail(any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, SENHA)))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(usuarioRepository, times(1)).findByEmail(EMAIL);
+        verifyNoMoreInteractions(usuarioRepository);
+    }
+
+    private Usuario usuario(boolean ativo) {
+        return Usuario.builder()
+                .id(UUID.randomUUID())
+                .nome("Maria")
+                .email(EMAIL)
+                .senha(passwordEncoder.encode(SENHA))
+                .roles(new HashSet<>(Set.of(Role.USUARIO)))
+                .ativo(ativo)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.nivaldosilva.cadastro_usuarios.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import io.github.nivaldosilva.cadastro_usuarios.BancoEmbutido;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"senha.bcrypt.calibrar=false", "senha.bcrypt.forca=4"})
+class RegistroConcorrenteTest {
+
+    private static final int CONCORRENCIA = 32;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        BancoEmbutido.registrar(registry, "registro_concorrente");
+    }
+
+    @Test
+    void registrosSimultaneosDoMesmoEmailCriamUmUnicoUsuario() throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCORRENCIA);
+        List<Future<HttpStatusCode>> respostas = new ArrayList<>(CONCORRENCIA);
+        try {
+            for (int i = 0; i < CONCORRENCIA; i++) {
+                // Variações de caixa do mesmo endereço devem colidir no índice único em lower(email)
+                String email = i % 2 == 0 ? "disputa@exemplo.com" : "Disputa@Exemplo.COM";
+                Map<String, String> corpo = Map.of("nome", "Usuário " + i, "email", email, "senha", "senha123");
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    return restTemplate.postForEntity("/auth/registro", corpo, String.class).getStatusCode();
+                }));
+            }
+            largada.countDown();
+
+            int criados = 0;
+            int conflitos = 0;
+            for (Future<HttpStatusCode> resposta : respostas) {
+                HttpStatusCode status = resposta.get();
+                if (status.isSameCodeAs(HttpStatus.CREATED)) {
+                    criados++;
+                } else if (status.isSameCodeAs(HttpStatus.CONFLICT)) {
+                    conflitos++;
+                }
+            }
+
+            assertThat(criados).isEqualTo(1);
+            assertThat(conflitos).isEqualTo(CONCORRENCIA - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer linhas = jdbcTemplate.queryForObject(
+                "select count(*) from usuarios where lower(email) = 'disputa@exemplo.com'", Integer.class);
+        assertThat(linhas).isEqualTo(1);
+    }
+}
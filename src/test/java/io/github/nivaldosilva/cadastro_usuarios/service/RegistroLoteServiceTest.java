@@ -0,0 +1,77 @@
+package io.github.nivaldosilva.cadastro_usuarios.service;
+
+import static io.github.nivaldosilva.cadastro_usuarios.service.UsuarioServiceTest.completadorLocalidade;
+import static io.github.nivaldosilva.cadastro_usuarios.service.UsuarioServiceTest.endereco;
+import static io.github.nivaldosilva.cadastro_usuarios.service.UsuarioServiceTest.registro;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.Auditoria;
+import io.github.nivaldosilva.cadastro_usuarios.cache.FiltroEmails;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.ItemLoteResponse;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.response.RegistroLoteResponse;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.github.nivaldosilva.cadastro_usuarios.security.SenhaHashExecutor;
+import jakarta.validation.Validation;
+
+class RegistroLoteServiceTest {
+
+    private UsuarioRepository usuarioRepository;
+    private RegistroLoteService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        SenhaHashExecutor senhaHashExecutor = mock(SenhaHashExecutor.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+        when(senhaHashExecutor.submeter(any())).thenAnswer(invocacao ->
+                CompletableFuture.completedFuture(invocacao.<Supplier<String>>getArgument(0).get()));
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        when(usuarioRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            List<Usuario> usuarios = invocacao.getArgument(0);
+            usuarios.forEach(usuario -> usuario.setId(UUID.randomUUID()));
+            return usuarios;
+        });
+
+        service = new RegistroLoteService(usuarioRepository, passwordEncoder, senhaHashExecutor, transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), mock(FiltroEmails.class),
+                completadorLocalidade(), mock(Auditoria.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cepInconsistenteFalhaSoOItemEEstadoOmitidoECompletado() {
+        RegistroLoteResponse resposta = service.registrarLote(List.of(
+                registro("sp@exemplo.com", endereco(null, "01001-000")),
+                registro("rj@exemplo.com", endereco("SP", "20000-000"))));
+
+        assertThat(resposta.sucessos()).isEqualTo(1);
+        assertThat(resposta.itens()).extracting(ItemLoteResponse::sucesso).containsExactly(true, false);
+        assertThat(resposta.itens().get(1).erro()).contains("pertence a RJ");
+
+        ArgumentCaptor<List<Usuario>> salvos = ArgumentCaptor.forClass(List.class);
+        verify(usuarioRepository).saveAll(salvos.capture());
+        assertThat(salvos.getValue()).singleElement()
+                .satisfies(usuario -> assertThat(usuario.getEnderecos().get(0).getEstado()).isEqualTo("SP"));
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.nivaldosilva.cadastro_usuarios.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import io.github.nivaldosilva.cadastro_usuarios.auditoria.Auditoria;
+import io.github.nivaldosilva.cadastro_usuarios.cache.FiltroEmails;
+import io.github.nivaldosilva.cadastro_usuarios.cache.UsuarioCache;
+import io.github.nivaldosilva.cadastro_usuarios.cep.CompletadorLocalidade;
+import io.github.nivaldosilva.cadastro_usuarios.cep.TabelaCep;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.EnderecoRequest;
+import io.github.nivaldosilva.cadastro_usuarios.controllers.request.RegistroUsuarioRequest;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Endereco;
+import io.github.nivaldosilva.cadastro_usuarios.entities.Usuario;
+import io.github.nivaldosilva.cadastro_usuarios.exceptions.CepInconsistenteException;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.EnderecoMapper;
+import io.github.nivaldosilva.cadastro_usuarios.mappers.UsuarioMapper;
+import io.github.nivaldosilva.cadastro_usuarios.repository.EnderecoRepository;
+import io.github.nivaldosilva.cadastro_usuarios.repository.TelefoneRepository;
+import io.github.nivaldosilva.cadastro_usuarios.repository.UsuarioRepository;
+import io.github.nivaldosilva.cadastro_usuarios.security.UsuarioAutenticado;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Endereços enviados junto com o registro passam pela mesma conferência de CEP que os cadastrados depois. Usa a
+ * base padrão do classpath, que só conhece a UF de cada faixa.
+ */
+class UsuarioServiceTest {
+
+    private UsuarioRepository usuarioRepository;
+    private EnderecoRepository enderecoRepository;
+    private UsuarioService service;
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = mock(UsuarioRepository.class);
+        enderecoRepository = mock(EnderecoRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        FiltroEmails filtroEmails = mock(FiltroEmails.class);
+
+        when(passwordEncoder.encode(any())).thenReturn("hash");
+        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+        when(enderecoRepository.saveAndFlush(any(Endereco.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        service = new UsuarioService(usuarioRepository, passwordEncoder, enderecoRepository,
+                mock(TelefoneRepository.class), mock(EntityManager.class), mock(UsuarioCache.class), filtroEmails,
+                completadorLocalidade(), mock(Auditoria.class));
+    }
+
+    static CompletadorLocalidade completadorLocalidade() {
+        return new CompletadorLocalidade(new TabelaCep(new DefaultResourceLoader(), new SimpleMeterRegistry(),
+                "classpath:cep/faixas-uf.csv", System.getProperty("java.io.tmpdir")));
+    }
+
+    static EnderecoRequest endereco(String estado, String cep) {
+        return EnderecoRequest.builder()
+                .rua("Praça da Sé").numero("1").complemento("Lado ímpar")
+                .cidade("São Paulo").estado(estado).cep(cep)
+                .build();
+    }
+
+    static RegistroUsuarioRequest registro(String email, EnderecoRequest endereco) {
+        return RegistroUsuarioRequest.builder()
+                .nome("Maria Souza").email(email).senha("senha123")
+                .enderecos(List.of(endereco))
+                .build();
+    }
+
+    @Test
+    void registroCompletaOEstadoDosEnderecosAninhados() {
+        Usuario usuario = UsuarioMapper.toEntity(registro("maria@exemplo.com", endereco(null, "01001-000")));
+
+        Usuario salvo = service.registrarUsuario(usuario);
+
+        assertThat(salvo.getEnderecos()).singleElement().satisfies(endereco -> {
+            assertThat(endereco.getEstado()).isEqualTo("SP");
+            assertThat(endereco.getCidade()).isEqualTo("São Paulo");
+        });
+    }
+
+    @Test
+    void registroComUfDivergenteNaoGravaOUsuario() {
+        Usuario usuario = UsuarioMapper.toEntity(registro("maria@exemplo.com", endereco("RJ", "01001-000")));
+
+        assertThatThrownBy(() -> service.registrarUsuario(usuario))
+                .isInstanceOf(CepInconsistenteException.class)
+                .hasMessageContaining("pertence a SP");
+        verify(usuarioRepository, never()).save(any());
+    }
+
+    @Test
+    void criacaoDeAdminTambemConfereOCep() {
+        Usuario usuario = UsuarioMapper.toEntity(registro("admin@exemplo.com", endereco("rj", "20000-000")));
+
+        Usuario salvo = service.criarAdmin(usuario);
+
+        assertThat(salvo.getEnderecos()).singleElement()
+                .satisfies(endereco -> assertThat(endereco.getEstado()).isEqualTo("RJ"));
+    }
+
+    @Test
+    void cadastroDeEnderecoCompletaOEstado() {
+        UsuarioAutenticado autenticado = new UsuarioAutenticado(UUID.randomUUID(), "maria@exemplo.com", Set.of("USUARIO"));
+
+        Endereco salvo = service.cadastrarEndereco(autenticado, EnderecoMapper.toEntity(endereco(null, "20000-000")));
+
+        assertThat(salvo.getEstado()).isEqualTo("RJ");
+    }
+}